@@ -0,0 +1,71 @@
+package dev.benchmark;
+
+import dev.model.Elevator;
+import dev.model.Passenger;
+import dev.model.clock.SystemClock;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 엘리베이터 요청 집합과 탑승객 목록 갱신 (Elevator.addRequest / removeRequest / addPassenger / removePassengersAt)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElevatorRequestBenchmark {
+
+    @Param({"10", "50", "200"})
+    int floors;
+
+    @Param({"8", "32"})
+    int capacity;
+
+    private Elevator elevator;
+    private Passenger rider;
+    private int requestFloor;
+
+    @Setup
+    public void setUp() {
+        elevator = new Elevator(1, floors, capacity);
+        Random random = new Random(42);
+        for (int i = 0; i < floors / 4; i++) {
+            elevator.addRequest(2 + random.nextInt(floors - 1));
+        }
+        // 정원보다 한 명 적게 태워 두고, 측정마다 한 명을 태웠다가 내림 (최고층은 측정용 승객 전용)
+        for (int i = 1; i < capacity; i++) {
+            elevator.addPassenger(new Passenger(i, 1, 2 + random.nextInt(floors - 2), SystemClock.INSTANCE));
+        }
+        rider = new Passenger(capacity, 1, floors, SystemClock.INSTANCE);
+        requestFloor = 2;
+    }
+
+    @Benchmark
+    public boolean addRemoveRequest() {
+        requestFloor = (requestFloor >= floors) ? 2 : requestFloor + 1;
+        elevator.addRequest(requestFloor);
+        boolean present = elevator.hasRequestAt(requestFloor);
+        elevator.removeRequest(requestFloor);
+        return present;
+    }
+
+    @Benchmark
+    public List<Passenger> boardAndAlight() {
+        elevator.addPassenger(rider);
+        return elevator.removePassengersAt(floors);
+    }
+}
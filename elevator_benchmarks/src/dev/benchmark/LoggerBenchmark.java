@@ -0,0 +1,106 @@
+package dev.benchmark;
+
+import dev.controller.logger.LoggerFactory;
+import dev.controller.logger.OverflowPolicy;
+import dev.model.logger.LogLevel;
+import dev.model.logger.strategy.BufferedFileLogStrategy;
+import dev.model.logger.strategy.LogStrategy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 시뮬레이션 스레드에서 본 LoggerFactory.log 호출 비용
+ * disabled: 레벨로 걸러지는 경우, sync: 호출 스레드에서 포맷/출력, async: 링 버퍼에 넣기만 하는 경우
+ * 출력 I/O 대신 글자 수만 세는 전략을 사용해 LoggerFactory 자체 비용만 측정합니다.
+ * buffered-file은 sync와 같되 실제 임시 파일에 BufferedFileLogStrategy로 기록하는 경우입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+
+    @Param({"disabled", "sync", "async", "buffered-file"})
+    String mode;
+
+    private LoggerFactory loggerFactory;
+    private CountingLogStrategy sink;
+    private Path logDir; // buffered-file에서만 사용 (롤링된 파일 포함)
+    private int floor;
+
+    @Setup
+    public void setUp() throws IOException {
+        loggerFactory = new LoggerFactory();
+        sink = new CountingLogStrategy();
+        loggerFactory.setStrategies(sink);
+        switch (mode) {
+            case "disabled" -> loggerFactory.setLevel(LogLevel.WARN);
+            case "async" -> loggerFactory.enableAsync(1 << 16, OverflowPolicy.BLOCK);
+            case "buffered-file" -> {
+                logDir = Files.createTempDirectory("logger-benchmark");
+                loggerFactory.setStrategies(new BufferedFileLogStrategy(logDir.resolve("simulation.log").toString()));
+                loggerFactory.setLevel(LogLevel.DEBUG);
+            }
+            default -> loggerFactory.setLevel(LogLevel.DEBUG);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerFactory.close();
+        if (logDir != null) {
+            try (Stream<Path> files = Files.list(logDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(logDir);
+        }
+    }
+
+    @Benchmark
+    public void concatenated() {
+        floor = (floor + 1) & 63;
+        loggerFactory.info("승객 요청 추가: " + floor + "층 -> " + (floor + 1) + "층");
+    }
+
+    @Benchmark
+    public void parameterized() {
+        floor = (floor + 1) & 63;
+        loggerFactory.info("승객 요청 추가: {}층 -> {}층", floor, floor + 1);
+    }
+
+    /**
+     * 기록된 글자 수만 누적하는 출력 전략 (소비자 스레드 하나만 호출)
+     */
+    static final class CountingLogStrategy implements LogStrategy {
+        long chars;
+
+        @Override
+        public void log(String level, String message) {
+            chars += level.length() + message.length();
+        }
+
+        @Override
+        public void log(String timestamp, String level, String message) {
+            chars += timestamp.length() + level.length() + message.length();
+        }
+    }
+}
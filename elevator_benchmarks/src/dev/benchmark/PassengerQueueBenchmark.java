@@ -0,0 +1,76 @@
+package dev.benchmark;
+
+import dev.controller.logger.LoggerFactory;
+import dev.model.Direction;
+import dev.model.Passenger;
+import dev.model.logger.LogLevel;
+import dev.service.PassengerService;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 대기 승객 탑승 처리 (PassengerService.getBoardingPassengers)
+ * 층을 돌아가며 정원만큼 태우고 같은 승객을 다시 대기열에 넣어 대기열 깊이를 일정하게 유지합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassengerQueueBenchmark {
+    private static final int CAPACITY = 8;
+
+    @Param({"10", "50"})
+    int floors;
+
+    @Param({"16", "1024", "65536"})
+    int queueDepth;
+
+    private PassengerService passengerService;
+    private int floor;
+
+    @Setup
+    public void setUp() {
+        LoggerFactory loggerFactory = new LoggerFactory();
+        loggerFactory.setLevel(LogLevel.WARN); // 로그 비용은 LoggerBenchmark에서 따로 측정
+        passengerService = new PassengerService(loggerFactory);
+
+        Random random = new Random(42);
+        for (int i = 0; i < queueDepth; i++) {
+            int start = 1 + random.nextInt(floors);
+            int destination = 1 + random.nextInt(floors - 1);
+            if (destination >= start) destination++;
+            passengerService.addPassengerRequest(start, destination);
+        }
+        floor = 1;
+    }
+
+    @Benchmark
+    public void boardAndRequeue(Blackhole blackhole) {
+        floor = (floor == floors) ? 1 : floor + 1;
+        List<Passenger> boarded = passengerService.getBoardingPassengers(floor, Direction.UP, CAPACITY);
+        for (Passenger passenger : boarded) {
+            passengerService.addPassengerRequest(passenger);
+        }
+        blackhole.consume(boarded);
+    }
+
+    @Benchmark
+    public void waitingFloors(Blackhole blackhole) {
+        passengerService.getWaitingPassengerFloors().forEach(blackhole::consume);
+    }
+}
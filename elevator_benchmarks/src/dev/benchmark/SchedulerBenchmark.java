@@ -0,0 +1,68 @@
+package dev.benchmark;
+
+import dev.model.Direction;
+import dev.model.Elevator;
+import dev.model.scheduling.SchedulingStrategy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 스케줄링 전략의 다음 목표 층 계산 (이동 제어 단계마다 한 번 실행, 기존 getNextFloorSCAN)
+ * 건물 층수와 요청 층 수를 바꿔 가며 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    @Param({"10", "50", "200"})
+    int floors;
+
+    @Param({"1", "8", "32"})
+    int requests;
+
+    @Param({"look", "scan", "c-look", "sstf"})
+    String strategy;
+
+    private Elevator elevator;
+    private SchedulingStrategy scheduling;
+
+    @Setup
+    public void setUp() {
+        elevator = new Elevator(1, floors, 8);
+        scheduling = SchedulingStrategy.of(strategy);
+        elevator.setSchedulingStrategy(scheduling);
+        elevator.setCurrentFloor(floors / 2);
+        elevator.setDirection(Direction.UP);
+
+        Random random = new Random(42);
+        int target = Math.min(requests, floors - 1);
+        while (elevator.getRequests().size() < target) {
+            elevator.addRequest(1 + random.nextInt(floors));
+        }
+    }
+
+    @Benchmark
+    public int nextTarget() {
+        return scheduling.nextTarget(elevator);
+    }
+
+    @Benchmark
+    public Direction nextDirection() {
+        return scheduling.nextDirection(elevator);
+    }
+}
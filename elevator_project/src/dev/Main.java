@@ -1,6 +1,7 @@
 package dev;
 
 import dev.controller.ElevatorController;
+import dev.controller.logger.OverflowPolicy;
 import dev.guiview.SimulationView;
 
 import javax.swing.*;
@@ -8,8 +9,13 @@ import javax.swing.*;
 public class Main {
     public static void main(String[] args) {
         // 엘리베이터 시뮬레이션의 컨트롤러를 생성합니다.
-        // 1층부터 10층까지, 최대 5명의 승객을 태울 수 있도록 설정했습니다.
-        ElevatorController controller = new ElevatorController(1, 10, 5);
+        // 기본은 1층부터 10층까지, 최대 5명의 승객을 태우는 1대이며 인자로 최고층과 차량 수를 바꿀 수 있습니다.
+        // 예: java dev.Main 120 16
+        int maxFloor = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int carCount = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        ElevatorController controller = new ElevatorController(1, maxFloor, 5, carCount);
+        // 로그 출력을 전용 스레드로 넘겨 시뮬레이션 스레드의 임계 구역을 짧게 유지합니다.
+        controller.getLoggerFactory().enableAsync(8192, OverflowPolicy.BLOCK);
         
         SwingUtilities.invokeLater(() -> {
             SimulationView view = new SimulationView(controller);
@@ -0,0 +1,228 @@
+package dev.batch;
+
+import dev.controller.ElevatorController;
+import dev.controller.logger.LoggerFactory;
+import dev.model.logger.LogLevel;
+import dev.model.logger.strategy.BufferedFileLogStrategy;
+import dev.model.logger.strategy.LogStrategy;
+import dev.model.scheduling.SchedulingStrategy;
+import dev.service.dispatch.DispatchPolicy;
+import dev.service.sink.AggregateOnlyTripSink;
+import dev.service.sink.BinaryTripSink;
+import dev.service.sink.CompletedTripSink;
+import dev.service.sink.FileTripSink;
+import dev.service.simulation.DiscreteEventSimulation;
+import dev.service.trace.TraceHeader;
+import dev.service.trace.TraceRecorder;
+import dev.service.trace.TraceWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * GUI 없이 시나리오 파일을 실행하는 배치 실행기
+ * 시나리오마다 새 ElevatorController를 만들고 이산 사건 엔진으로 가상 시간만큼 최대 속도로 돌린 뒤,
+ * 요약 통계를 summary.csv / summary.json으로 남깁니다. Swing 클래스는 로드하지 않습니다.
+ *
+ * 사용법:
+ * <pre>
+ * java dev.batch.BatchRunner [--out 디렉터리] [--format csv|json|both] [--log-level 레벨] [--trips|--trips-binary] [--trace] [--log-file] 시나리오파일|디렉터리...
+ * </pre>
+ * 디렉터리를 주면 그 안의 *.scn 파일을 이름 순으로 실행합니다.
+ * --trips를 주면 완료 승객을 시나리오마다 "{이름}.trips.csv"로 남깁니다. (기본은 통계만 집계)
+ * --trips-binary를 주면 같은 내용을 고정 길이 이진 레코드 "{이름}.trips.bin"으로 남깁니다. (BinaryTripLog로 읽음)
+ * --trace를 주면 입력과 차량 결정을 "{이름}.trace"로 남겨 TraceReplayer로 다시 재생할 수 있습니다.
+ * --log-file을 주면 시뮬레이션 로그를 콘솔 대신 "{이름}.log"에 버퍼링해 기록합니다. (BufferedFileLogStrategy)
+ */
+public final class BatchRunner {
+    public static final String SCENARIO_EXTENSION = ".scn";
+
+    private BatchRunner() {
+    }
+
+    /**
+     * 시나리오 하나를 실행하고 요약 통계를 반환합니다.
+     * @param logLevel 이 레벨 미만의 시뮬레이션 로그는 출력하지 않음
+     */
+    public static SimulationSummary run(Scenario scenario, LogLevel logLevel) {
+        return run(scenario, logLevel, new AggregateOnlyTripSink());
+    }
+
+    /**
+     * 완료 승객을 주어진 싱크로 넘기며 시나리오를 실행합니다. 싱크는 호출한 쪽이 닫습니다.
+     */
+    public static SimulationSummary run(Scenario scenario, LogLevel logLevel, CompletedTripSink tripSink) {
+        return run(scenario, logLevel, tripSink, null);
+    }
+
+    /**
+     * 입력과 차량 결정을 기록하며 시나리오를 실행합니다. 기록 대상은 호출한 쪽이 닫습니다.
+     * @param traceRecorder null이면 기록하지 않음
+     */
+    public static SimulationSummary run(Scenario scenario, LogLevel logLevel, CompletedTripSink tripSink,
+                                        TraceRecorder traceRecorder) {
+        return run(scenario, logLevel, tripSink, traceRecorder, null);
+    }
+
+    /**
+     * 시뮬레이션 로그를 주어진 전략으로 내보내며 시나리오를 실행합니다. 전략은 실행이 끝나면 함께 닫힙니다.
+     * @param logStrategy null이면 기본 콘솔 출력
+     */
+    public static SimulationSummary run(Scenario scenario, LogLevel logLevel, CompletedTripSink tripSink,
+                                        TraceRecorder traceRecorder, LogStrategy logStrategy) {
+        ElevatorController controller = new ElevatorController(
+            scenario.getMinFloor(), scenario.getMaxFloor(), scenario.getCapacity(), scenario.getCarCount());
+        controller.setSchedulingStrategy(SchedulingStrategy.of(scenario.getAlgorithm()));
+        controller.setDispatchPolicy(DispatchPolicy.of(scenario.getDispatch()));
+        controller.setCompletedTripSink(tripSink);
+        controller.setTraceRecorder(traceRecorder);
+        LoggerFactory loggerFactory = controller.getLoggerFactory();
+        loggerFactory.setLevel(logLevel);
+        if (logStrategy != null) {
+            loggerFactory.setStrategies(logStrategy);
+        }
+
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(controller.getGroupService());
+        simulation.setTickNanos(TimeUnit.MILLISECONDS.toNanos(scenario.getTickMillis()));
+        for (Scenario.Arrival arrival : scenario.getArrivals()) {
+            simulation.schedulePassenger(TimeUnit.MILLISECONDS.toNanos(arrival.timeMillis()),
+                arrival.startFloor(), arrival.destinationFloor());
+        }
+
+        long wallStart = System.nanoTime();
+        long endNanos = simulation.run();
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+        loggerFactory.close();
+        tripSink.flush();
+        if (traceRecorder != null) traceRecorder.flush();
+
+        return new SimulationSummary(scenario, controller.getTripStatistics(),
+            controller.getGroupService().getStopCount(), endNanos, simulation.getProcessedEvents(), wallMillis);
+    }
+
+    public static void main(String[] args) {
+        Path outDir = Paths.get("batch-results");
+        String format = "both";
+        LogLevel logLevel = LogLevel.WARN;
+        String tripsFormat = null; // null이면 기록하지 않음, "csv" 또는 "bin"
+        boolean writeTrace = false;
+        boolean writeLog = false;
+        List<Path> inputs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out" -> outDir = Paths.get(requireValue(args, ++i));
+                case "--format" -> format = requireValue(args, ++i).toLowerCase();
+                case "--log-level" -> logLevel = LogLevel.of(requireValue(args, ++i));
+                case "--trips" -> tripsFormat = "csv";
+                case "--trips-binary" -> tripsFormat = "bin";
+                case "--trace" -> writeTrace = true;
+                case "--log-file" -> writeLog = true;
+                default -> inputs.add(Paths.get(args[i]));
+            }
+        }
+        if (inputs.isEmpty() || !List.of("csv", "json", "both").contains(format)) {
+            usage();
+            System.exit(2);
+        }
+
+        try {
+            Files.createDirectories(outDir);
+        } catch (IOException e) {
+            System.err.println("결과 디렉터리 생성 실패: " + e.getMessage());
+            System.exit(1);
+        }
+
+        List<SimulationSummary> summaries = new ArrayList<>();
+        int failures = 0;
+        for (Path file : expand(inputs)) {
+            CompletedTripSink tripSink = null;
+            TraceRecorder traceRecorder = null;
+            LogStrategy logStrategy = null;
+            try {
+                Scenario scenario = Scenario.load(file);
+                Path tripsFile = outDir.resolve(scenario.getName() + ".trips." + tripsFormat);
+                if (tripsFormat == null) {
+                    tripSink = new AggregateOnlyTripSink();
+                } else if (tripsFormat.equals("bin")) {
+                    tripSink = new BinaryTripSink(tripsFile, 0);
+                } else {
+                    tripSink = new FileTripSink(tripsFile, 0);
+                }
+                if (writeTrace) {
+                    traceRecorder = new TraceWriter(outDir.resolve(scenario.getName() + ".trace"), traceHeader(scenario));
+                }
+                if (writeLog) {
+                    logStrategy = new BufferedFileLogStrategy(outDir.resolve(scenario.getName() + ".log").toString());
+                }
+                SimulationSummary summary = run(scenario, logLevel, tripSink, traceRecorder, logStrategy);
+                summaries.add(summary);
+                System.out.println(summary);
+            } catch (IOException | RuntimeException e) { // 파일 싱크 오류(RuntimeException) 포함
+                failures++;
+                System.err.println("시나리오 실행 실패: " + file + " - " + e.getMessage());
+            } finally {
+                if (tripSink != null) tripSink.close();
+                if (traceRecorder != null) traceRecorder.close();
+                if (logStrategy != null) logStrategy.close(); // 실행 도중 실패한 경우 (이미 닫혔으면 무시됨)
+            }
+        }
+
+        try {
+            if (!format.equals("json")) {
+                SummaryWriter.writeCsv(outDir.resolve("summary.csv"), summaries);
+            }
+            if (!format.equals("csv")) {
+                SummaryWriter.writeJson(outDir.resolve("summary.json"), summaries);
+            }
+        } catch (IOException e) {
+            System.err.println("결과 파일 기록 실패: " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.println("시나리오 " + summaries.size() + "개 완료, 실패 " + failures + "개 -> " + outDir.toAbsolutePath());
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static TraceHeader traceHeader(Scenario scenario) {
+        return new TraceHeader(scenario.getMinFloor(), scenario.getMaxFloor(), scenario.getCapacity(),
+            scenario.getCarCount(), scenario.getAlgorithm(), scenario.getDispatch(),
+            TimeUnit.MILLISECONDS.toNanos(scenario.getTickMillis()));
+    }
+
+    // 디렉터리는 그 안의 시나리오 파일로 펼침 (이름 순)
+    private static List<Path> expand(List<Path> inputs) {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (!Files.isDirectory(input)) {
+                files.add(input);
+                continue;
+            }
+            try (Stream<Path> children = Files.list(input)) {
+                children.filter(p -> p.getFileName().toString().endsWith(SCENARIO_EXTENSION))
+                    .sorted()
+                    .forEach(files::add);
+            } catch (IOException e) {
+                System.err.println("디렉터리 읽기 실패: " + input + " - " + e.getMessage());
+            }
+        }
+        return files;
+    }
+
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            usage();
+            System.exit(2);
+        }
+        return args[index];
+    }
+
+    private static void usage() {
+        System.err.println("사용법: java dev.batch.BatchRunner [--out 디렉터리] [--format csv|json|both] "
+            + "[--log-level DEBUG|INFO|WARN|ERROR] [--trips|--trips-binary] [--trace] [--log-file] 시나리오파일|디렉터리...");
+    }
+}
@@ -0,0 +1,238 @@
+package dev.batch;
+
+import dev.model.logger.LogLevel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파라미터 스윕 실행기
+ * 층수 x 차량 수 x 정원 x 스케줄링 전략 x 배차 정책 x 교통 시드의 모든 조합을 서로 독립된 시뮬레이션으로 만들고,
+ * ForkJoinPool(작업 훔치기)에서 코어 수만큼 병렬로 실행해 한 보고서로 모읍니다.
+ *
+ * 시뮬레이션끼리는 컨트롤러, 로거, 가상 시계, 승객 번호를 공유하지 않으며
+ * 이산 사건 엔진은 실행 스레드 하나만 사용하므로 작업 하나가 워커 스레드 하나를 차지합니다.
+ *
+ * 사용법:
+ * <pre>
+ * java dev.batch.ParameterSweep --floors 10,20 --cars 1-4 --capacity 5,8 --seeds 1-8
+ *      [--algorithms look,scan,c-scan,c-look,sstf] [--dispatch eta,nearest,destination] [--profile up-peak,lunch,down-peak]
+ *      [--passengers 500] [--interval 2000] [--parallelism N] [--out 디렉터리]
+ * </pre>
+ */
+public final class ParameterSweep {
+    // 이 개수 이하로 쪼개지면 더 나누지 않고 현재 워커에서 차례로 실행
+    private static final int SEQUENTIAL_THRESHOLD = 1;
+
+    private ParameterSweep() {
+    }
+
+    /**
+     * 주어진 시나리오들을 병렬로 실행합니다. 결과는 입력 순서를 유지합니다.
+     * @param parallelism 동시에 실행할 시뮬레이션 수 (보통 코어 수)
+     */
+    public static List<SimulationSummary> runAll(List<Scenario> scenarios, int parallelism, LogLevel logLevel) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new SweepTask(scenarios, 0, scenarios.size(), logLevel));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 파라미터 조합마다 시드 기반 교통량 시나리오를 만듭니다.
+     * 같은 층수/시드는 전략과 정책이 달라도 같은 교통량을 사용합니다.
+     * 이름은 "f{최고층}-c{차량}-cap{정원}-{전략}-{정책}-s{시드}" 형식입니다.
+     */
+    public static List<Scenario> grid(List<Integer> floors, List<Integer> cars, List<Integer> capacities,
+                                      List<String> algorithms, List<String> dispatches,
+                                      List<Integer> seeds, int passengers, long meanIntervalMillis) {
+        return grid(floors, cars, capacities, algorithms, dispatches, List.of(), seeds, passengers, meanIntervalMillis);
+    }
+
+    /**
+     * 교통 패턴 축을 추가한 조합을 만듭니다. 패턴이 비어 있으면 기존 균등 교통량(Scenario.generate)을 사용하고,
+     * 패턴마다 TrafficGenerator로 같은 평균 간격의 교통량을 만들어 이름 끝(시드 앞)에 "-{패턴}"을 붙입니다.
+     */
+    public static List<Scenario> grid(List<Integer> floors, List<Integer> cars, List<Integer> capacities,
+                                      List<String> algorithms, List<String> dispatches, List<String> profiles,
+                                      List<Integer> seeds, int passengers, long meanIntervalMillis) {
+        List<Scenario> scenarios = new ArrayList<>();
+        List<TrafficGenerator.Profile> patterns = new ArrayList<>();
+        for (String profile : profiles) {
+            patterns.add(TrafficGenerator.Profile.of(profile));
+        }
+        if (patterns.isEmpty()) {
+            patterns.add(null);
+        }
+        for (int maxFloor : floors) {
+            for (int carCount : cars) {
+                for (int capacity : capacities) {
+                    for (TrafficGenerator.Profile pattern : patterns) {
+                        for (int seed : seeds) {
+                            Scenario traffic = pattern == null
+                                ? Scenario.generate("", 1, maxFloor, carCount, capacity, passengers, meanIntervalMillis, seed)
+                                : new Scenario("", 1, maxFloor, carCount, capacity, Scenario.DEFAULT_TICK_MILLIS,
+                                    new TrafficGenerator(1, maxFloor, pattern, 3_600_000.0 / meanIntervalMillis, seed)
+                                        .generate(passengers));
+                            String suffix = (pattern == null ? "" : "-" + pattern.getName()) + "-s" + seed;
+                            for (String algorithm : algorithms) {
+                                for (String dispatch : dispatches) {
+                                    String name = "f" + maxFloor + "-c" + carCount + "-cap" + capacity
+                                        + "-" + algorithm.toLowerCase() + "-" + dispatch.toLowerCase() + suffix;
+                                    scenarios.add(traffic.withPolicies(name, algorithm, dispatch));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * 시나리오 구간을 반으로 나눠 fork하고, 충분히 작아지면 직접 실행합니다.
+     */
+    private static final class SweepTask extends RecursiveTask<List<SimulationSummary>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Scenario> scenarios;
+        private final int from;
+        private final int to;
+        private final LogLevel logLevel;
+
+        SweepTask(List<Scenario> scenarios, int from, int to, LogLevel logLevel) {
+            this.scenarios = scenarios;
+            this.from = from;
+            this.to = to;
+            this.logLevel = logLevel;
+        }
+
+        @Override
+        protected List<SimulationSummary> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                List<SimulationSummary> results = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    results.add(runOne(scenarios.get(i)));
+                }
+                return results;
+            }
+            int mid = (from + to) >>> 1;
+            SweepTask left = new SweepTask(scenarios, from, mid, logLevel);
+            left.fork();
+            List<SimulationSummary> results = new SweepTask(scenarios, mid, to, logLevel).compute();
+            List<SimulationSummary> merged = new ArrayList<>(left.join());
+            merged.addAll(results);
+            return merged;
+        }
+
+        // 한 조합의 실패가 스윕 전체를 멈추지 않도록 실패 행으로 남기고 다음 조합을 실행
+        private SimulationSummary runOne(Scenario scenario) {
+            long start = System.nanoTime();
+            try {
+                return BatchRunner.run(scenario, logLevel);
+            } catch (RuntimeException e) {
+                System.err.println("시나리오 실행 실패: " + scenario.getName() + " - " + e.getMessage());
+                return SimulationSummary.failed(scenario, e, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        List<Integer> floors = List.of(10);
+        List<Integer> cars = List.of(1, 2, 4);
+        List<Integer> capacities = List.of(5);
+        List<Integer> seeds = List.of(1);
+        List<String> algorithms = List.of(Scenario.DEFAULT_ALGORITHM);
+        List<String> dispatches = List.of(Scenario.DEFAULT_DISPATCH);
+        List<String> profiles = List.of();
+        int passengers = 500;
+        long interval = 2000;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Path outDir = Paths.get("sweep-results");
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--floors" -> floors = parseList(value);
+                    case "--cars" -> cars = parseList(value);
+                    case "--capacity" -> capacities = parseList(value);
+                    case "--seeds" -> seeds = parseList(value);
+                    case "--algorithms" -> algorithms = List.of(value.split(","));
+                    case "--dispatch" -> dispatches = List.of(value.split(","));
+                    case "--profile" -> profiles = List.of(value.split(","));
+                    case "--passengers" -> passengers = Integer.parseInt(value);
+                    case "--interval" -> interval = Long.parseLong(value);
+                    case "--parallelism" -> parallelism = Integer.parseInt(value);
+                    case "--out" -> outDir = Paths.get(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+                }
+                i++;
+            }
+        } catch (RuntimeException e) { // 값 누락(NullPointerException), 숫자 형식 오류 포함
+            System.err.println("잘못된 인자: " + e.getMessage());
+            System.err.println("사용법: java dev.batch.ParameterSweep --floors 10,20 --cars 1-4 --capacity 5,8 "
+                + "--seeds 1-8 [--algorithms look,sstf] [--dispatch eta,nearest,destination] [--profile up-peak,lunch,down-peak] [--passengers 500] [--interval 2000] [--parallelism N] [--out 디렉터리]");
+            System.exit(2);
+            return;
+        }
+
+        List<Scenario> scenarios;
+        try {
+            scenarios = grid(floors, cars, capacities, algorithms, dispatches, profiles, seeds, passengers, interval);
+        } catch (IllegalArgumentException e) {
+            System.err.println("잘못된 인자: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.out.println("스윕 시작: 조합 " + scenarios.size() + "개, 병렬도 " + parallelism);
+        long wallStart = System.nanoTime();
+        List<SimulationSummary> summaries = runAll(scenarios, parallelism, LogLevel.WARN);
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+
+        try {
+            Files.createDirectories(outDir);
+            SummaryWriter.writeCsv(outDir.resolve("summary.csv"), summaries);
+            SummaryWriter.writeJson(outDir.resolve("summary.json"), summaries);
+        } catch (IOException e) {
+            System.err.println("결과 파일 기록 실패: " + e.getMessage());
+            System.exit(1);
+        }
+
+        long failures = summaries.stream().filter(SimulationSummary::isFailed).count();
+        summaries.stream()
+            .filter(summary -> !summary.isFailed())
+            .min(Comparator.comparingDouble(SimulationSummary::getAvgWaitSeconds))
+            .ifPresent(best -> System.out.println("평균 대기시간 최소: " + best));
+        System.out.println("스윕 완료: " + summaries.size() + "개, 실패 " + failures + "개, " + wallMillis + "ms -> " + outDir.toAbsolutePath());
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    // "1,2,4" 또는 "1-8" (둘을 섞은 "1-4,8"도 허용)
+    static List<Integer> parseList(String text) {
+        List<Integer> values = new ArrayList<>();
+        for (String part : text.split(",")) {
+            int dash = part.indexOf('-', 1);
+            if (dash > 0) {
+                int first = Integer.parseInt(part.substring(0, dash).strip());
+                int last = Integer.parseInt(part.substring(dash + 1).strip());
+                for (int v = first; v <= last; v++) {
+                    values.add(v);
+                }
+            } else {
+                values.add(Integer.parseInt(part.strip()));
+            }
+        }
+        return values;
+    }
+}
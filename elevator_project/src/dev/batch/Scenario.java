@@ -0,0 +1,247 @@
+package dev.batch;
+
+import dev.model.scheduling.SchedulingStrategy;
+import dev.service.dispatch.DispatchPolicy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 배치 실행용 시나리오 (건물 구성 + 시각이 찍힌 승객 도착 목록)
+ *
+ * 파일 형식은 한 줄에 지시어 하나이며, '#' 뒤는 주석입니다.
+ * <pre>
+ * name      morning-rush
+ * floors    1 20          # 최저층 최고층
+ * cars      4
+ * capacity  8
+ * tick      500           # (선택) 한 층 이동 시간, 밀리초
+ * algorithm look          # (선택) 스케줄링 전략: look, scan, c-scan, c-look, sstf
+ * dispatch  eta           # (선택) 배차 정책: eta, nearest, destination
+ * passenger 0    1 15     # 도착시각(ms) 출발층 도착층
+ * passenger 1500 3 1
+ * traffic   up-peak 1200 600000 7   # 교통 패턴, 시간당 인원, 생성 구간(ms), (선택) 시드
+ * </pre>
+ * traffic 지시어는 TrafficGenerator로 승객을 만들어 passenger 목록과 도착 시각 순으로 합칩니다.
+ */
+public final class Scenario {
+    public static final String DEFAULT_ALGORITHM = "look";
+    public static final String DEFAULT_DISPATCH = "eta";
+    // tick을 지정하지 않은 시나리오의 한 층 이동 시간 (스레드 모드의 ElevatorService.TICK_MILLIS와 같음)
+    public static final long DEFAULT_TICK_MILLIS = 500;
+
+    private final String name;
+    private final int minFloor;
+    private final int maxFloor;
+    private final int carCount;
+    private final int capacity;
+    private final long tickMillis;
+    private final String algorithm;
+    private final String dispatch;
+    private final List<Arrival> arrivals;
+
+    public Scenario(String name, int minFloor, int maxFloor, int carCount, int capacity,
+                    long tickMillis, List<Arrival> arrivals) {
+        this(name, minFloor, maxFloor, carCount, capacity, tickMillis, DEFAULT_ALGORITHM, DEFAULT_DISPATCH, arrivals);
+    }
+
+    /**
+     * @param algorithm 스케줄링 전략 이름 (SchedulingStrategy.of)
+     * @param dispatch 배차 정책 이름 (DispatchPolicy.of)
+     */
+    public Scenario(String name, int minFloor, int maxFloor, int carCount, int capacity,
+                    long tickMillis, String algorithm, String dispatch, List<Arrival> arrivals) {
+        if (minFloor >= maxFloor) {
+            throw new IllegalArgumentException("최저층은 최고층보다 낮아야 합니다: " + minFloor + "~" + maxFloor);
+        }
+        if (carCount < 1 || capacity < 1 || tickMillis < 1) {
+            throw new IllegalArgumentException("cars, capacity, tick은 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.minFloor = minFloor;
+        this.maxFloor = maxFloor;
+        this.carCount = carCount;
+        this.capacity = capacity;
+        this.tickMillis = tickMillis;
+        this.algorithm = SchedulingStrategy.of(algorithm).getName(); // 이름 검증 및 표기 통일
+        this.dispatch = DispatchPolicy.of(dispatch).getName();
+        this.arrivals = Collections.unmodifiableList(new ArrayList<>(arrivals));
+    }
+
+    /**
+     * 시나리오 파일을 읽습니다. 이름 지시어가 없으면 파일 이름(확장자 제외)을 사용합니다.
+     */
+    public static Scenario load(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String defaultName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader, defaultName);
+        }
+    }
+
+    public static Scenario parse(Reader source, String defaultName) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader br ? br : new BufferedReader(source);
+        String name = defaultName;
+        int minFloor = 1;
+        int maxFloor = 10;
+        int carCount = 1;
+        int capacity = 5;
+        long tickMillis = DEFAULT_TICK_MILLIS;
+        String algorithm = DEFAULT_ALGORITHM;
+        String dispatch = DEFAULT_DISPATCH;
+        List<Arrival> arrivals = new ArrayList<>();
+        List<String[]> traffics = new ArrayList<>(); // 층 구성을 모두 읽은 뒤 생성
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.strip();
+            if (line.isEmpty()) continue;
+
+            String[] tokens = line.split("\\s+");
+            try {
+                switch (tokens[0].toLowerCase()) {
+                    case "name" -> name = line.substring(tokens[0].length()).strip();
+                    case "floors" -> {
+                        expectArgs(tokens, 2);
+                        minFloor = Integer.parseInt(tokens[1]);
+                        maxFloor = Integer.parseInt(tokens[2]);
+                    }
+                    case "cars" -> {
+                        expectArgs(tokens, 1);
+                        carCount = Integer.parseInt(tokens[1]);
+                    }
+                    case "capacity" -> {
+                        expectArgs(tokens, 1);
+                        capacity = Integer.parseInt(tokens[1]);
+                    }
+                    case "tick" -> {
+                        expectArgs(tokens, 1);
+                        tickMillis = Long.parseLong(tokens[1]);
+                    }
+                    case "algorithm" -> {
+                        expectArgs(tokens, 1);
+                        algorithm = SchedulingStrategy.of(tokens[1]).getName();
+                    }
+                    case "dispatch" -> {
+                        expectArgs(tokens, 1);
+                        dispatch = DispatchPolicy.of(tokens[1]).getName();
+                    }
+                    case "passenger" -> {
+                        expectArgs(tokens, 3);
+                        arrivals.add(new Arrival(Long.parseLong(tokens[1]),
+                            Integer.parseInt(tokens[2]), Integer.parseInt(tokens[3])));
+                    }
+                    case "traffic" -> {
+                        if (tokens.length != 4 && tokens.length != 5) {
+                            throw new IllegalArgumentException("traffic 지시어는 인자 3~4개가 필요합니다.");
+                        }
+                        TrafficGenerator.Profile.of(tokens[1]);
+                        Double.parseDouble(tokens[2]);
+                        Long.parseLong(tokens[3]);
+                        if (tokens.length == 5) Long.parseLong(tokens[4]);
+                        traffics.add(tokens);
+                    }
+                    default -> throw new IllegalArgumentException("알 수 없는 지시어: " + tokens[0]);
+                }
+            } catch (IllegalArgumentException e) { // NumberFormatException 포함
+                throw new IllegalArgumentException(defaultName + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        if (!traffics.isEmpty()) {
+            for (String[] tokens : traffics) {
+                long seed = tokens.length == 5 ? Long.parseLong(tokens[4]) : 1;
+                try {
+                    new TrafficGenerator(minFloor, maxFloor, TrafficGenerator.Profile.of(tokens[1]),
+                        Double.parseDouble(tokens[2]), seed).generate(Long.parseLong(tokens[3]), arrivals::add);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(defaultName + ": " + e.getMessage(), e);
+                }
+            }
+            arrivals.sort(Comparator.comparingLong(Arrival::timeMillis)); // 같은 시각은 기존 순서 유지
+        }
+
+        for (Arrival arrival : arrivals) {
+            if (arrival.startFloor() < minFloor || arrival.startFloor() > maxFloor
+                    || arrival.destinationFloor() < minFloor || arrival.destinationFloor() > maxFloor) {
+                throw new IllegalArgumentException(defaultName + ": 층 범위(" + minFloor + "~" + maxFloor
+                    + ")를 벗어난 승객: " + arrival);
+            }
+        }
+        return new Scenario(name, minFloor, maxFloor, carCount, capacity, tickMillis, algorithm, dispatch, arrivals);
+    }
+
+    /**
+     * 시드로 재현 가능한 균등 교통량 시나리오를 만듭니다.
+     * 출발/도착층은 균등 분포, 도착 간격은 평균 meanIntervalMillis의 지수 분포입니다.
+     */
+    public static Scenario generate(String name, int minFloor, int maxFloor, int carCount, int capacity,
+                                    int passengers, long meanIntervalMillis, long seed) {
+        Random random = new Random(seed);
+        int span = maxFloor - minFloor + 1;
+        List<Arrival> arrivals = new ArrayList<>(passengers);
+        long time = 0;
+        for (int i = 0; i < passengers; i++) {
+            time += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalMillis);
+            int start = minFloor + random.nextInt(span);
+            int destination = minFloor + random.nextInt(span - 1);
+            if (destination >= start) destination++; // 출발층을 건너뛰어 균등하게 선택
+            arrivals.add(new Arrival(time, start, destination));
+        }
+        return new Scenario(name, minFloor, maxFloor, carCount, capacity, DEFAULT_TICK_MILLIS, arrivals);
+    }
+
+    /**
+     * 같은 교통량으로 스케줄링 전략/배차 정책만 바꾼 시나리오를 만듭니다.
+     */
+    public Scenario withPolicies(String newName, String newAlgorithm, String newDispatch) {
+        return new Scenario(newName, minFloor, maxFloor, carCount, capacity, tickMillis,
+            newAlgorithm, newDispatch, arrivals);
+    }
+
+    private static void expectArgs(String[] tokens, int count) {
+        if (tokens.length != count + 1) {
+            throw new IllegalArgumentException(tokens[0] + " 지시어는 인자 " + count + "개가 필요합니다.");
+        }
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getMinFloor() { return minFloor; }
+    public int getMaxFloor() { return maxFloor; }
+    public int getCarCount() { return carCount; }
+    public int getCapacity() { return capacity; }
+    public long getTickMillis() { return tickMillis; }
+    public String getAlgorithm() { return algorithm; }
+    public String getDispatch() { return dispatch; }
+    public List<Arrival> getArrivals() { return arrivals; }
+
+    /**
+     * 승객 한 명의 도착 (시나리오 시작 기준 밀리초)
+     */
+    public record Arrival(long timeMillis, int startFloor, int destinationFloor) {
+        public Arrival {
+            if (timeMillis < 0) {
+                throw new IllegalArgumentException("도착 시각은 0 이상이어야 합니다: " + timeMillis);
+            }
+            if (startFloor == destinationFloor) {
+                throw new IllegalArgumentException("출발층과 도착층이 같습니다: " + startFloor);
+            }
+        }
+    }
+}
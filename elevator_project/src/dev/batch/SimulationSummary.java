@@ -0,0 +1,124 @@
+package dev.batch;
+
+import dev.model.clock.SimulationClock;
+import dev.model.stats.LatencyHistogram;
+import dev.model.stats.TripStatistics;
+
+/**
+ * 시나리오 한 번 실행의 요약 통계
+ * 시간 값은 모두 가상 시간(초)이며, wallMillis만 실제 실행에 걸린 시간입니다.
+ * 실행에 실패한 시나리오는 통계 없이 오류 메시지(error 열)만 담은 행으로 남깁니다.
+ */
+public final class SimulationSummary {
+    static final String[] CSV_COLUMNS = {
+        "scenario", "floors", "cars", "capacity", "algorithm", "dispatch", "requested", "completed", "unserved", "stops",
+        "avgWaitSec", "p50WaitSec", "p90WaitSec", "p99WaitSec", "maxWaitSec",
+        "avgRideSec", "p50RideSec", "p90RideSec", "p99RideSec", "maxRideSec",
+        "avgTotalSec", "p50TotalSec", "p90TotalSec", "p99TotalSec", "maxTotalSec",
+        "simulatedSec", "events", "wallMillis", "error"
+    };
+    private static final Latency NO_LATENCY = new Latency(0, 0, 0, 0, 0);
+
+    private final Scenario scenario;
+    private final int completed;
+    private final int stops;
+    private final Latency wait;
+    private final Latency ride;
+    private final Latency total;
+    private final double simulatedSeconds;
+    private final long events;
+    private final long wallMillis;
+    private final String error; // 성공했으면 null
+
+    SimulationSummary(Scenario scenario, TripStatistics statistics, int stops,
+                      long simulatedNanos, long events, long wallMillis) {
+        this.scenario = scenario;
+        this.completed = (int) statistics.getCompletedCount();
+        this.stops = stops;
+        this.wait = Latency.of(statistics.getWaiting());
+        this.ride = Latency.of(statistics.getRiding());
+        this.total = Latency.of(statistics.getTotal());
+        this.simulatedSeconds = SimulationClock.toSeconds(simulatedNanos);
+        this.events = events;
+        this.wallMillis = wallMillis;
+        this.error = null;
+    }
+
+    private SimulationSummary(Scenario scenario, String error, long wallMillis) {
+        this.scenario = scenario;
+        this.completed = 0;
+        this.stops = 0;
+        this.wait = NO_LATENCY;
+        this.ride = NO_LATENCY;
+        this.total = NO_LATENCY;
+        this.simulatedSeconds = 0;
+        this.events = 0;
+        this.wallMillis = wallMillis;
+        this.error = error;
+    }
+
+    /**
+     * 실행 중 예외로 끝난 시나리오의 행 (통계는 0, 요청 승객은 모두 미처리로 집계)
+     */
+    static SimulationSummary failed(Scenario scenario, Exception cause, long wallMillis) {
+        String message = cause.getMessage();
+        return new SimulationSummary(scenario, (message == null) ? cause.getClass().getSimpleName() : message, wallMillis);
+    }
+
+    // Getters
+    public Scenario getScenario() { return scenario; }
+    public int getRequested() { return scenario.getArrivals().size(); }
+    public int getCompleted() { return completed; }
+    public int getUnserved() { return getRequested() - completed; }
+    public int getStops() { return stops; }
+    public double getAvgWaitSeconds() { return wait.avg(); }
+    public double getMaxWaitSeconds() { return wait.max(); }
+    public double getAvgRideSeconds() { return ride.avg(); }
+    public double getAvgTotalSeconds() { return total.avg(); }
+    public double getMaxTotalSeconds() { return total.max(); }
+    public Latency getWait() { return wait; }
+    public Latency getRide() { return ride; }
+    public Latency getTotal() { return total; }
+    public double getSimulatedSeconds() { return simulatedSeconds; }
+    public long getEvents() { return events; }
+    public long getWallMillis() { return wallMillis; }
+    public boolean isFailed() { return error != null; }
+    public String getError() { return error; }
+
+    // CSV_COLUMNS와 같은 순서의 값
+    Object[] values() {
+        return new Object[] {
+            scenario.getName(), scenario.getMinFloor() + "-" + scenario.getMaxFloor(),
+            scenario.getCarCount(), scenario.getCapacity(), scenario.getAlgorithm(), scenario.getDispatch(),
+            getRequested(), completed, getUnserved(), stops,
+            wait.avg(), wait.p50(), wait.p90(), wait.p99(), wait.max(),
+            ride.avg(), ride.p50(), ride.p90(), ride.p99(), ride.max(),
+            total.avg(), total.p50(), total.p90(), total.p99(), total.max(),
+            simulatedSeconds, events, wallMillis, (error == null) ? "" : error
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (error != null) {
+            return scenario.getName() + ": 실패 - " + error;
+        }
+        return String.format("%s: 완료 %d/%d, 정차 %d회, 평균 대기 %.3f초, p99 대기 %.3f초, 최대 대기 %.3f초, 평균 소요 %.3f초 (가상 %.1f초, 사건 %d건, %dms)",
+            scenario.getName(), completed, getRequested(), stops, wait.avg(), wait.p99(), wait.max(), total.avg(),
+            simulatedSeconds, events, wallMillis);
+    }
+
+    /**
+     * 시간 분포 하나의 요약 (초)
+     */
+    public record Latency(double avg, double p50, double p90, double p99, double max) {
+        static Latency of(LatencyHistogram histogram) {
+            return new Latency(
+                SimulationClock.toSeconds(histogram.getMeanNanos()),
+                SimulationClock.toSeconds(histogram.getPercentileNanos(50)),
+                SimulationClock.toSeconds(histogram.getPercentileNanos(90)),
+                SimulationClock.toSeconds(histogram.getPercentileNanos(99)),
+                SimulationClock.toSeconds(histogram.getMaxNanos()));
+        }
+    }
+}
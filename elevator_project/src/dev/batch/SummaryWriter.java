@@ -0,0 +1,91 @@
+package dev.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요약 통계를 CSV / JSON 파일로 기록합니다.
+ * 빌드 서버에서 실행 결과를 비교하기 쉽도록 열 순서와 소수점 자릿수(3자리)를 고정합니다.
+ */
+public final class SummaryWriter {
+    private SummaryWriter() {
+    }
+
+    public static void writeCsv(Path file, List<SimulationSummary> summaries) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(String.join(",", SimulationSummary.CSV_COLUMNS));
+            out.write('\n');
+            for (SimulationSummary summary : summaries) {
+                Object[] values = summary.values();
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) out.write(',');
+                    out.write(csvValue(values[i]));
+                }
+                out.write('\n');
+            }
+        }
+    }
+
+    public static void writeJson(Path file, List<SimulationSummary> summaries) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("[\n");
+            for (int s = 0; s < summaries.size(); s++) {
+                Object[] values = summaries.get(s).values();
+                out.write("  {");
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) out.write(", ");
+                    out.write('"');
+                    out.write(SimulationSummary.CSV_COLUMNS[i]);
+                    out.write("\": ");
+                    out.write(jsonValue(values[i]));
+                }
+                out.write(s < summaries.size() - 1 ? "},\n" : "}\n");
+            }
+            out.write("]\n");
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double d) {
+            return String.format(Locale.ROOT, "%.3f", d);
+        }
+        return String.valueOf(value);
+    }
+
+    private static String csvValue(Object value) {
+        String text = format(value);
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static String jsonValue(Object value) {
+        if (value instanceof Number) {
+            return format(value);
+        }
+        StringBuilder sb = new StringBuilder().append('"');
+        for (char c : String.valueOf(value).toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,255 @@
+package dev.batch;
+
+import dev.controller.logger.LoggerFactory;
+import dev.model.Direction;
+import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import dev.model.logger.LogLevel;
+import dev.model.scheduling.SchedulingStrategy;
+import dev.model.stats.TripStatistics;
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+import dev.service.sink.AggregateOnlyTripSink;
+import dev.service.trace.TraceEvent;
+import dev.service.trace.TraceHeader;
+import dev.service.trace.TraceReader;
+import dev.service.trace.TraceRecorder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추적 파일(TraceWriter) 재생기
+ *
+ * 재생: 기록된 순서대로 각 차량에 같은 승객 요청(번호, 요청 시각, 배정 차량)을 반영하고 같은 시각에 단계를 실행하면서,
+ * 하차/탑승 승객과 이동 결과가 기록과 같은지 확인합니다. 차량 상태는 소유 스레드의 명령 순서로만 바뀌므로
+ * 스레드 모드에서 기록한 실행도 현재 스레드 하나로 대기 없이 똑같이 다시 만들 수 있고,
+ * 처음 달라진 결정을 알려 주므로 스케줄링 변경 전후를 비교할 수 있습니다.
+ *
+ * 재시뮬레이션(--resimulate): 기록에서 요청(시각, 출발층, 도착층)만 꺼내 시나리오로 만들고
+ * 현재 배차 정책/스케줄링 전략으로 이산 사건 엔진에서 다시 실행해 요약 통계를 비교합니다.
+ *
+ * 사용법:
+ * <pre>
+ * java dev.batch.TraceReplayer [--resimulate] [--algorithm 이름] [--dispatch 이름] 추적파일...
+ * </pre>
+ */
+public final class TraceReplayer {
+
+    private TraceReplayer() {
+    }
+
+    /**
+     * 추적 파일을 기록된 구성으로 재생하고 결정을 비교합니다. 처음 달라진 결정에서 멈춥니다.
+     * @param algorithm 스케줄링 전략을 바꿔 재생할 때의 이름 (null이면 기록된 전략)
+     */
+    public static Result replay(Path file, String algorithm) throws IOException {
+        try (TraceReader reader = new TraceReader(file)) {
+            TraceHeader header = reader.getHeader();
+            LoggerFactory loggerFactory = new LoggerFactory();
+            loggerFactory.setLevel(LogLevel.WARN);
+            ElevatorGroupService group = new ElevatorGroupService(header.minFloor(), header.maxFloor(),
+                header.capacity(), header.carCount(), loggerFactory);
+            group.setSchedulingStrategy(SchedulingStrategy.of(algorithm != null ? algorithm : header.algorithm()));
+            ManualClock clock = new ManualClock();
+            group.setClock(clock);
+            DecisionCapture capture = new DecisionCapture();
+            group.setTraceRecorder(capture);
+
+            List<ElevatorService> cars = group.getCars();
+            long events = 0;
+            long decisions = 0;
+            TraceEvent expected = null;
+            long wallStart = System.nanoTime();
+            cars.forEach(ElevatorService::bindOwnerThread); // 모든 차량의 명령을 이 스레드에서 바로 실행
+            try {
+                TraceEvent event;
+                while ((event = reader.next()) != null) {
+                    events++;
+                    if (event.type() == TraceEvent.Type.START || event.type() == TraceEvent.Type.STOP) continue;
+                    if (event.car() < 0 || event.car() >= cars.size()) {
+                        throw new IOException("차량 번호가 구성(" + cars.size() + "대)을 벗어납니다: " + event);
+                    }
+                    ElevatorService car = cars.get(event.car());
+                    switch (event.type()) {
+                        case REQUEST -> {
+                            clock.now = event.requestNanos();
+                            Passenger passenger = new Passenger(event.passengerId(),
+                                event.startFloor(), event.destinationFloor(), clock);
+                            clock.now = event.timeNanos();
+                            car.addPassengerRequest(passenger);
+                        }
+                        case MONITOR -> {
+                            clock.now = event.timeNanos();
+                            car.monitorStep();
+                        }
+                        case MOVE -> {
+                            clock.now = event.timeNanos();
+                            car.movementStep();
+                        }
+                        default -> { }
+                    }
+                    if (event.type() != TraceEvent.Type.REQUEST) {
+                        decisions++;
+                        if (!event.sameDecision(capture.last)) {
+                            expected = event;
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                cars.forEach(ElevatorService::unbindOwnerThread);
+                loggerFactory.close();
+            }
+            long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+            return new Result(file, events, decisions, expected, expected != null ? capture.last : null,
+                group.getTripStatistics(), clock.now, wallMillis);
+        }
+    }
+
+    /**
+     * 추적 파일의 승객 요청만 모아 시나리오로 만듭니다. 도착 시각은 첫 시작(또는 첫 요청) 기준입니다.
+     */
+    public static Scenario toScenario(Path file, String name) throws IOException {
+        List<long[]> requests = new ArrayList<>(); // 요청 시각, 출발층, 도착층
+        long earliest = Long.MAX_VALUE;
+        boolean started = false;
+        TraceHeader header;
+        try (TraceReader reader = new TraceReader(file)) {
+            header = reader.getHeader();
+            TraceEvent event;
+            while ((event = reader.next()) != null) {
+                if (event.type() == TraceEvent.Type.START) {
+                    started = true;
+                    earliest = Math.min(earliest, event.timeNanos());
+                } else if (event.type() == TraceEvent.Type.REQUEST) {
+                    requests.add(new long[] {event.requestNanos(), event.startFloor(), event.destinationFloor()});
+                    earliest = Math.min(earliest, event.requestNanos());
+                }
+            }
+        }
+        // 스레드 모드 기록의 시각은 JVM 기준이라 시작 전 첫 사건으로 맞추고, 이산 사건 기록은 가상 시각 0 기준 그대로 사용
+        long origin = started ? earliest : 0;
+        requests.sort(Comparator.comparingLong(r -> r[0]));
+
+        List<Scenario.Arrival> arrivals = new ArrayList<>(requests.size());
+        for (long[] r : requests) {
+            arrivals.add(new Scenario.Arrival(TimeUnit.NANOSECONDS.toMillis(Math.max(0, r[0] - origin)), (int) r[1], (int) r[2]));
+        }
+        long tickMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(header.tickNanos()));
+        return new Scenario(name, header.minFloor(), header.maxFloor(), header.carCount(), header.capacity(),
+            tickMillis, header.algorithm(), header.dispatch(), arrivals);
+    }
+
+    /**
+     * 재생 결과
+     * @param expected 처음 달라진 기록 (같으면 null)
+     * @param actual 그 시점에 재생이 내린 결정
+     */
+    public record Result(Path file, long events, long decisions, TraceEvent expected, TraceEvent actual,
+                         TripStatistics statistics, long endNanos, long wallMillis) {
+
+        public boolean isIdentical() {
+            return expected == null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(128).append(file.getFileName()).append(": 기록 ").append(events)
+                .append("건, 결정 ").append(decisions).append("건 비교, ");
+            if (expected == null) {
+                sb.append("모두 일치");
+            } else {
+                sb.append("불일치\n  기록: ").append(expected).append("\n  재생: ").append(actual);
+            }
+            sb.append(" (완료 ").append(statistics.getCompletedCount()).append("명, 가상 ");
+            SimulationClock.appendSeconds(sb, endNanos).append("초, ").append(wallMillis).append("ms)");
+            return sb.toString();
+        }
+    }
+
+    // 재생 시각을 기록된 값으로 직접 맞추는 시계 (스레드 모드 기록은 차량끼리 시각이 뒤섞일 수 있음)
+    private static final class ManualClock implements SimulationClock {
+        long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+    }
+
+    // 재생 중 차량이 방금 내린 결정
+    private static final class DecisionCapture implements TraceRecorder {
+        TraceEvent last;
+
+        @Override
+        public void onRequest(int car, long timeNanos, Passenger passenger) {
+        }
+
+        @Override
+        public void onMonitor(int car, long timeNanos, int exited, List<Passenger> boarded) {
+            int[] ids = new int[boarded.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = boarded.get(i).getId();
+            }
+            last = TraceEvent.monitor(car, timeNanos, exited, ids);
+        }
+
+        @Override
+        public void onMove(int car, long timeNanos, int floor, Direction direction) {
+            last = TraceEvent.move(car, timeNanos, floor, direction);
+        }
+    }
+
+    public static void main(String[] args) {
+        boolean resimulate = false;
+        String algorithm = null;
+        String dispatch = null;
+        List<Path> files = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--resimulate" -> resimulate = true;
+                    case "--algorithm" -> algorithm = SchedulingStrategy.of(args[++i]).getName();
+                    case "--dispatch" -> dispatch = args[++i];
+                    default -> files.add(Paths.get(args[i]));
+                }
+            }
+        } catch (RuntimeException e) { // 값 누락, 알 수 없는 이름
+            files.clear();
+            System.err.println("잘못된 인자: " + e.getMessage());
+        }
+        if (files.isEmpty()) {
+            System.err.println("사용법: java dev.batch.TraceReplayer [--resimulate] [--algorithm 이름] [--dispatch 이름] 추적파일...");
+            System.exit(2);
+            return;
+        }
+
+        int failures = 0;
+        for (Path file : files) {
+            try {
+                if (resimulate) {
+                    Scenario scenario = toScenario(file, file.getFileName().toString());
+                    if (algorithm != null || dispatch != null) {
+                        scenario = scenario.withPolicies(scenario.getName(),
+                            algorithm != null ? algorithm : scenario.getAlgorithm(),
+                            dispatch != null ? dispatch : scenario.getDispatch());
+                    }
+                    System.out.println(BatchRunner.run(scenario, LogLevel.WARN, new AggregateOnlyTripSink()));
+                } else {
+                    Result result = replay(file, algorithm);
+                    System.out.println(result);
+                    if (!result.isIdentical()) failures++;
+                }
+            } catch (IOException | RuntimeException e) {
+                failures++;
+                System.err.println("재생 실패: " + file + " - " + e.getMessage());
+            }
+        }
+        System.exit(failures == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,198 @@
+package dev.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * 시드로 재현 가능한 교통량 생성기
+ * 도착은 시간당 ratePerHour명의 포아송 과정(지수 분포 도착 간격)이고,
+ * 출발/도착층은 출발층 x 도착층 가중치 행렬(OD 행렬)에서 뽑습니다.
+ *
+ * 뽑기는 행렬을 누적 가중치 배열로 펼쳐 이진 탐색하므로 한 명에 O(log 층수)이며,
+ * 결과를 목록으로 모으지 않고 소비자에게 바로 넘길 수도 있어 시간당 수백만 명도 생성할 수 있습니다.
+ */
+public final class TrafficGenerator {
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    /**
+     * 대표 교통 패턴 (로비는 최저층)
+     * 비율은 로비 → 위층, 위층 → 로비, 층간 이동의 순서이며, 각 묶음 안에서는 층을 균등하게 고릅니다.
+     */
+    public enum Profile {
+        UNIFORM("uniform", -1, -1, -1),       // 모든 층 쌍이 같은 비율
+        UP_PEAK("up-peak", 0.85, 0.05, 0.10), // 출근: 대부분 로비에서 위로
+        LUNCH("lunch", 0.40, 0.40, 0.20),     // 점심: 로비 왕복 양방향
+        DOWN_PEAK("down-peak", 0.05, 0.85, 0.10); // 퇴근: 대부분 위에서 로비로
+
+        private final String name;
+        private final double fromLobby;
+        private final double toLobby;
+        private final double interFloor;
+
+        Profile(String name, double fromLobby, double toLobby, double interFloor) {
+            this.name = name;
+            this.fromLobby = fromLobby;
+            this.toLobby = toLobby;
+            this.interFloor = interFloor;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 최저층을 로비로 하는 OD 행렬을 만듭니다. [출발층 - minFloor][도착층 - minFloor]
+         */
+        public double[][] matrix(int minFloor, int maxFloor) {
+            int span = maxFloor - minFloor + 1;
+            double[][] od = new double[span][span];
+            if (fromLobby < 0) {
+                for (int s = 0; s < span; s++) {
+                    Arrays.fill(od[s], 1.0);
+                    od[s][s] = 0;
+                }
+                return od;
+            }
+            int upper = span - 1; // 로비를 뺀 층 수
+            int interPairs = upper * (upper - 1);
+            for (int f = 1; f < span; f++) {
+                od[0][f] = fromLobby / upper;
+                od[f][0] = toLobby / upper;
+                for (int t = 1; t < span; t++) {
+                    if (t != f && interPairs > 0) od[f][t] = interFloor / interPairs;
+                }
+            }
+            return od;
+        }
+
+        /**
+         * 이름으로 패턴을 찾습니다. (대소문자 무시, "up-peak"와 "up_peak" 모두 허용)
+         */
+        public static Profile of(String name) {
+            String key = name.strip().toLowerCase(Locale.ROOT).replace('_', '-');
+            for (Profile profile : values()) {
+                if (profile.name.equals(key)) return profile;
+            }
+            throw new IllegalArgumentException("알 수 없는 교통 패턴: " + name + " (uniform, up-peak, lunch, down-peak)");
+        }
+    }
+
+    private final int minFloor;
+    private final int span;
+    private final double meanIntervalMillis;
+    // OD 행렬을 행 우선으로 펼친 누적 가중치 (마지막 값이 합계)
+    private final double[] cumulative;
+    private final long seed;
+
+    public TrafficGenerator(int minFloor, int maxFloor, Profile profile, double ratePerHour, long seed) {
+        this(minFloor, maxFloor, profile.matrix(minFloor, maxFloor), ratePerHour, seed);
+    }
+
+    /**
+     * @param od 출발층 x 도착층 가중치 행렬 ([출발층 - minFloor][도착층 - minFloor], 대각선은 무시, 합은 1이 아니어도 됨)
+     * @param ratePerHour 시간당 평균 도착 승객 수
+     */
+    public TrafficGenerator(int minFloor, int maxFloor, double[][] od, double ratePerHour, long seed) {
+        if (minFloor >= maxFloor) {
+            throw new IllegalArgumentException("최저층은 최고층보다 낮아야 합니다: " + minFloor + "~" + maxFloor);
+        }
+        if (!(ratePerHour > 0)) {
+            throw new IllegalArgumentException("시간당 도착 수는 0보다 커야 합니다: " + ratePerHour);
+        }
+        int span = maxFloor - minFloor + 1;
+        if (od.length != span) {
+            throw new IllegalArgumentException("OD 행렬 크기가 층 수(" + span + ")와 다릅니다: " + od.length);
+        }
+        this.minFloor = minFloor;
+        this.span = span;
+        this.meanIntervalMillis = MILLIS_PER_HOUR / ratePerHour;
+        this.seed = seed;
+        this.cumulative = new double[span * span];
+        double sum = 0;
+        for (int s = 0; s < span; s++) {
+            if (od[s].length != span) {
+                throw new IllegalArgumentException("OD 행렬 크기가 층 수(" + span + ")와 다릅니다: " + (minFloor + s) + "층 행");
+            }
+            for (int d = 0; d < span; d++) {
+                double weight = s == d ? 0 : od[s][d];
+                if (weight < 0 || Double.isNaN(weight)) {
+                    throw new IllegalArgumentException("OD 가중치는 0 이상이어야 합니다: " + (minFloor + s) + "층 -> " + (minFloor + d) + "층");
+                }
+                sum += weight;
+                cumulative[s * span + d] = sum;
+            }
+        }
+        if (!(sum > 0)) {
+            throw new IllegalArgumentException("OD 행렬에 이동이 하나도 없습니다.");
+        }
+    }
+
+    /**
+     * 0ms부터 durationMillis 전까지 도착하는 승객을 시각 순서로 넘깁니다.
+     * @return 생성한 승객 수
+     */
+    public long generate(long durationMillis, Consumer<Scenario.Arrival> consumer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double time = nextInterval(random);
+        long count = 0;
+        while (time < durationMillis) {
+            consumer.accept(nextArrival(random, (long) time));
+            count++;
+            time += nextInterval(random);
+        }
+        return count;
+    }
+
+    /**
+     * 처음 passengers명의 도착 목록을 만듭니다.
+     */
+    public List<Scenario.Arrival> generate(int passengers) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Scenario.Arrival> arrivals = new ArrayList<>(passengers);
+        double time = 0;
+        for (int i = 0; i < passengers; i++) {
+            time += nextInterval(random);
+            arrivals.add(nextArrival(random, (long) time));
+        }
+        return arrivals;
+    }
+
+    /**
+     * durationMillis 동안의 도착으로 시나리오를 만듭니다.
+     */
+    public Scenario toScenario(String name, int carCount, int capacity, long durationMillis) {
+        List<Scenario.Arrival> arrivals = new ArrayList<>();
+        generate(durationMillis, arrivals::add);
+        return new Scenario(name, minFloor, minFloor + span - 1, carCount, capacity, Scenario.DEFAULT_TICK_MILLIS, arrivals);
+    }
+
+    public double getMeanIntervalMillis() {
+        return meanIntervalMillis;
+    }
+
+    // 도착 간격은 밀리초 실수로 누적해 시간당 수백만 명이어도 평균 비율이 유지됨
+    private double nextInterval(SplittableRandom random) {
+        return -Math.log(1.0 - random.nextDouble()) * meanIntervalMillis;
+    }
+
+    private Scenario.Arrival nextArrival(SplittableRandom random, long timeMillis) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        // target보다 큰 첫 누적값 (가중치 0인 칸은 앞 칸과 누적값이 같아 뽑히지 않음)
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        int index = low;
+        return new Scenario.Arrival(timeMillis, minFloor + index / span, minFloor + index % span);
+    }
+}
@@ -1,58 +1,176 @@
 package dev.controller;
 
+import dev.service.ElevatorGroupService;
 import dev.service.ElevatorService;
 import dev.model.Elevator;
+import dev.model.ElevatorSnapshot;
 import dev.model.Passenger;
+import dev.model.scheduling.SchedulingStrategy;
+import dev.model.stats.TripStatistics;
 import dev.controller.logger.LoggerFactory;
+import dev.service.dispatch.DispatchPolicy;
+import dev.service.checkpoint.CheckpointFile;
+import dev.service.sink.CompletedTripSink;
+import dev.service.trace.TraceRecorder;
 import dev.service.ElevatorService.ThreadStatusListener; 
 import dev.service.ElevatorService.ElevatorStateListener; 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Queue;
 
 public class ElevatorController {
+    private final ElevatorGroupService groupService;
     private final ElevatorService elevatorService;
+    private final LoggerFactory loggerFactory;
 
     public ElevatorController(int minFloor, int maxFloor, int capacity) {
-        LoggerFactory loggerFactory = new LoggerFactory();
-        this.elevatorService = new ElevatorService(minFloor, maxFloor, capacity, loggerFactory);
+        this(minFloor, maxFloor, capacity, 1);
+    }
+
+    /**
+     * 여러 대의 엘리베이터를 그룹 배차로 운영하는 컨트롤러를 생성합니다.
+     * @param carCount 운행할 차량 수
+     */
+    public ElevatorController(int minFloor, int maxFloor, int capacity, int carCount) {
+        this.loggerFactory = new LoggerFactory();
+        this.groupService = new ElevatorGroupService(minFloor, maxFloor, capacity, carCount, loggerFactory);
+        this.elevatorService = groupService.getCars().get(0);
     }
     
+    /**
+     * 모든 차량의 스케줄링 전략을 설정합니다. (LOOK, SCAN, C-SCAN, C-LOOK, SSTF)
+     */
+    public void setSchedulingStrategy(SchedulingStrategy schedulingStrategy) {
+        groupService.setSchedulingStrategy(schedulingStrategy);
+    }
+
+    /**
+     * 여러 대 운행 시 호출을 배정할 정책을 설정합니다. (ETA, NEAREST, DESTINATION)
+     */
+    public void setDispatchPolicy(DispatchPolicy dispatchPolicy) {
+        groupService.setDispatchPolicy(dispatchPolicy);
+    }
+    
+    /**
+     * 하차한 승객을 넘길 싱크를 설정합니다. (최근 N명 보관, 개수만 집계, 파일 기록)
+     */
+    public void setCompletedTripSink(CompletedTripSink completedTripSink) {
+        groupService.setCompletedTripSink(completedTripSink);
+    }
+
+    /**
+     * 입력과 차량 결정을 기록할 대상을 설정합니다. (예: TraceWriter, 재생은 dev.batch.TraceReplayer)
+     */
+    public void setTraceRecorder(TraceRecorder traceRecorder) {
+        groupService.setTraceRecorder(traceRecorder);
+    }
+
     public void addPassengerRequest(int startFloor, int destinationFloor) {
-        elevatorService.addPassengerRequest(startFloor, destinationFloor);
+        groupService.addPassengerRequest(startFloor, destinationFloor);
     }
     
-    // 시뮬레이션 시작 메서드 호출 (ElevatorService의 스레드 시작)
+    // 시뮬레이션 시작 메서드 호출 (각 차량 ElevatorService의 스레드 시작)
     public void startSimulation() {
-        elevatorService.startSimulation();
+        groupService.startSimulation();
     }
     
-    // 시뮬레이션 중지 메서드 호출 (ElevatorService의 스레드 종료)
+    // 시뮬레이션 중지 메서드 호출 (각 차량 ElevatorService의 스레드 종료)
     public void stopSimulation() {
-        elevatorService.stopSimulation();
+        groupService.stopSimulation();
     }
     
+    // 현재 단계를 마친 뒤 모든 차량 일시정지 (요청은 계속 받음)
+    public void pauseSimulation() {
+        groupService.pauseSimulation();
+    }
+
+    public void resumeSimulation() {
+        groupService.resumeSimulation();
+    }
+
+    // 중지하고 차량/대기열/통계를 처음 상태로 (설정은 유지)
+    public void resetSimulation() {
+        groupService.resetSimulation();
+    }
+
+    // 처음 상태에서 다시 시작 (같은 JVM에서 연속 실행)
+    public void restartSimulation() {
+        groupService.restartSimulation();
+    }
+
     public void printStatistics() {
-        elevatorService.printStatistics();
+        groupService.printStatistics();
+    }
+
+    /**
+     * 모든 차량의 위치, 요청 층, 탑승/대기 승객, 통계를 파일로 저장합니다. 실행 중에도 호출할 수 있습니다.
+     */
+    public void saveCheckpoint(Path file) throws IOException {
+        CheckpointFile.write(file, groupService.checkpoint());
+    }
+
+    /**
+     * 저장한 체크포인트로 되돌립니다. 중지된 상태에서 호출하고, startSimulation으로 이어서 운행합니다.
+     */
+    public void restoreCheckpoint(Path file) throws IOException {
+        groupService.restore(CheckpointFile.read(file));
     }
 
+    /**
+     * 첫 번째 차량을 반환합니다. (단일 차량 구성과의 호환용)
+     * 실행 중에는 소유 스레드가 수정하는 객체이므로, 화면이나 통계는 getSnapshot을 사용합니다.
+     */
     public Elevator getElevator() {
         return elevatorService.getElevator();
     }
+
+    /**
+     * 첫 번째 차량의 마지막 게시 상태 (GUI 갱신용, 락 없이 읽는 불변 객체)
+     */
+    public ElevatorSnapshot getSnapshot() {
+        return elevatorService.getSnapshot();
+    }
+
+    /**
+     * 모든 차량의 마지막 게시 상태
+     */
+    public List<ElevatorSnapshot> getSnapshots() {
+        return groupService.getSnapshots();
+    }
+
+    public List<Elevator> getElevators() {
+        return groupService.getElevators();
+    }
     
+    /**
+     * 싱크가 보관 중인 최근 완료 승객 (전체 완료 수와 시간 분포는 getTripStatistics)
+     */
     public List<Passenger> getCompletedPassengers() {
-        return elevatorService.getCompletedPassengers();
+        return groupService.getCompletedPassengers();
     }
     
+    /**
+     * 모든 차량의 대기/탑승/총 소요 시간 분포 (평균, 백분위, 최댓값)
+     */
+    public TripStatistics getTripStatistics() {
+        return groupService.getTripStatistics();
+    }
+
     public Queue<Passenger> getWaitingPassengers() {
-        return elevatorService.getWaitingPassengers();
+        return groupService.getWaitingPassengers();
     }
     
     public boolean isRunning() {
-        return elevatorService.isRunning();
+        return groupService.isRunning();
+    }
+
+    public boolean isPaused() {
+        return groupService.isPaused();
     }
     
     public LoggerFactory getLoggerFactory() {
-        return elevatorService.getLoggerFactory();
+        return loggerFactory;
     }
 
     /**
@@ -61,7 +179,7 @@ public class ElevatorController {
      * @param listener 스레드 상태 변화를 수신할 리스너
      */
     public void setThreadStatusListener(ThreadStatusListener listener) {
-        elevatorService.setThreadStatusListener(listener);
+        groupService.setThreadStatusListener(listener);
     }
 
     /**
@@ -70,15 +188,22 @@ public class ElevatorController {
      * @param listener 엘리베이터 상태 변화를 수신할 리스너
      */
     public void setElevatorStateListener(ElevatorStateListener listener) {
-        elevatorService.setElevatorStateListener(listener);
+        groupService.setElevatorStateListener(listener);
     }
 
     /**
      * ElevatorService 객체 자체를 반환합니다.
      * (필요에 따라 사용하지만, 일반적으로 컨트롤러는 서비스의 세부 구현을 숨기는 것이 좋습니다.)
-     * @return ElevatorService 인스턴스
+     * @return 첫 번째 차량의 ElevatorService 인스턴스
      */
     public ElevatorService getElevatorService() {
         return elevatorService;
     }
+
+    /**
+     * 전체 차량을 관리하는 그룹 배차 서비스를 반환합니다.
+     */
+    public ElevatorGroupService getGroupService() {
+        return groupService;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package dev.controller.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 로그 파이프라인
+ * 생산자(시뮬레이션 스레드)는 링 버퍼에 로그를 넣기만 하고,
+ * 전용 소비자 스레드 하나가 묶음 단위로 꺼내 포맷하고 출력합니다.
+ * 덕분에 ElevatorService 모니터를 쥔 구간에서 문자열 포맷/출력 I/O가 빠집니다.
+ */
+public class AsyncLogPipeline {
+    private static final int MAX_BATCH = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int SAMPLE_INTERVAL = 10;
+
+    private final LogRingBuffer buffer;
+    private final OverflowPolicy policy;
+    private final LogRingBuffer.BatchHandler handler;
+    private final int sampleHighWater;
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder sampleCounter = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    AsyncLogPipeline(int capacity, OverflowPolicy policy, LogRingBuffer.BatchHandler handler) {
+        this.buffer = new LogRingBuffer(capacity);
+        this.policy = policy;
+        this.handler = handler;
+        this.sampleHighWater = buffer.capacity() - buffer.capacity() / 4;
+        this.consumer = new Thread(this::consumeLoop, "log-consumer");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * 로그 한 건을 버퍼에 넣습니다. 오버플로 정책에 따라 대기하거나 버릴 수 있습니다.
+     */
+    void publish(long timestamp, boolean simulationTime, String level, String message) {
+        switch (policy) {
+            case BLOCK -> {
+                while (!buffer.offer(timestamp, simulationTime, level, message)) {
+                    if (!running) {
+                        droppedCount.increment();
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+            case DROP -> {
+                if (!buffer.offer(timestamp, simulationTime, level, message)) {
+                    droppedCount.increment();
+                    return;
+                }
+            }
+            case SAMPLE -> {
+                if (isSampledLevel(level) && buffer.size() >= sampleHighWater) {
+                    sampleCounter.increment();
+                    if (sampleCounter.sum() % SAMPLE_INTERVAL != 0) {
+                        droppedCount.increment();
+                        return;
+                    }
+                }
+                if (!buffer.offer(timestamp, simulationTime, level, message)) {
+                    droppedCount.increment();
+                    return;
+                }
+            }
+        }
+        publishedCount.increment();
+    }
+
+    // WARN/ERROR는 표본 추출 대상에서 제외
+    private static boolean isSampledLevel(String level) {
+        return "INFO".equals(level) || "DEBUG".equals(level);
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            if (buffer.drain(handler, MAX_BATCH) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 시 남은 로그를 모두 출력
+        while (buffer.drain(handler, MAX_BATCH) > 0) {
+            // 계속 비움
+        }
+    }
+
+    /**
+     * 소비자 스레드를 멈추고 버퍼에 남은 로그를 모두 출력합니다.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== 통계 ==========
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,110 @@
+package dev.controller.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 락 프리 링 버퍼 (다중 생산자 / 단일 소비자)
+ * 슬롯을 미리 할당해 두고 시퀀스 번호로 소유권을 넘기므로 로그 한 건당 객체를 만들지 않습니다.
+ */
+final class LogRingBuffer {
+
+    /**
+     * 버퍼에서 꺼낸 로그를 한 묶음(batch) 단위로 처리하는 소비자
+     */
+    interface BatchHandler {
+        // simulationTime: timestamp가 시뮬레이션 시계 나노초이면 true, 벽시계 밀리초이면 false
+        void onEvent(long timestamp, boolean simulationTime, String level, String message);
+        void endOfBatch();
+    }
+
+    private static final class Slot {
+        long timestamp;
+        boolean simulationTime;
+        String level;
+        String message;
+    }
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();   // 다음에 생산자가 차지할 위치
+    private final AtomicLong head = new AtomicLong();   // 다음에 소비자가 읽을 위치
+
+    LogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상이어야 합니다: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1; // 2의 거듭제곱으로 올림
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 빈 슬롯을 차지해 로그를 기록합니다.
+     * @return 버퍼가 가득 차서 기록하지 못했으면 false
+     */
+    boolean offer(long timestamp, boolean simulationTime, String level, String message) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    Slot slot = slots[index];
+                    slot.timestamp = timestamp;
+                    slot.simulationTime = simulationTime;
+                    slot.level = level;
+                    slot.message = message;
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // 한 바퀴 전 슬롯을 아직 소비하지 않음 → 가득 참
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxBatch건을 꺼내 처리합니다. 소비자 스레드 하나에서만 호출해야 합니다.
+     * @return 처리한 건수
+     */
+    int drain(BatchHandler handler, int maxBatch) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < maxBatch) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break; // 아직 공개되지 않음
+            }
+            Slot slot = slots[index];
+            handler.onEvent(slot.timestamp, slot.simulationTime, slot.level, slot.message);
+            slot.level = null;
+            slot.message = null;
+            sequences.set(index, position + slots.length); // 다음 바퀴의 생산자에게 반환
+            position++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.set(position);
+            handler.endOfBatch();
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
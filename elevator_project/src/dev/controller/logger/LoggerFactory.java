@@ -1,51 +1,325 @@
 package dev.controller.logger;
 
-import javax.swing.JTextArea;
+import dev.model.clock.SimulationClock;
+import dev.model.logger.LogLevel;
+import dev.model.logger.strategy.LogStrategy;
+import dev.view.logger.ConsoleLogStrategy;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * 로그를 레벨로 거른 뒤 설정된 LogStrategy 체인으로 내보냅니다.
+ * 기본 체인은 콘솔 출력 하나이며, 화면/파일 등은 setStrategies/addStrategy로 구성합니다.
+ * 전략의 flush는 로그마다 부르지 않고 비동기 묶음의 끝, 주기적 커밋(COMMIT_INTERVAL_MILLIS), close에서만 부릅니다.
+ */
 public class LoggerFactory {
-    private JTextArea logArea;
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
-    
-    public void setLogArea(JTextArea logArea) {
-        this.logArea = logArea;
+    // 로그가 뜸해도 전략 버퍼에 남은 내용이 이 주기 안에 기록되도록 하는 커밋 주기
+    public static final long COMMIT_INTERVAL_MILLIS = 200;
+    // 모든 LoggerFactory가 공유하는 주기적 커밋 스레드
+    private static final ScheduledExecutorService COMMIT_TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "log-commit");
+        thread.setDaemon(true); // JVM 종료를 막지 않도록
+        return thread;
+    });
+
+    private final List<LogStrategy> strategies = new CopyOnWriteArrayList<>(List.of(new ConsoleLogStrategy()));
+    private volatile LogLevel level = LogLevel.DEBUG;
+    private volatile SimulationClock clock; // null이면 벽시계 시각을 기록 (실행 중 교체될 수 있음)
+    private volatile AsyncLogPipeline asyncPipeline; // null이면 호출 스레드에서 바로 출력
+    private final CommitTask commitTask = new CommitTask(this);
+
+    public LoggerFactory() {
+        commitTask.future = COMMIT_TIMER.scheduleWithFixedDelay(commitTask,
+            COMMIT_INTERVAL_MILLIS, COMMIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // ========== 출력 대상 / 레벨 설정 ==========
+
+    /**
+     * 로그를 내보낼 전략 체인을 교체합니다. 기존 전략은 flush 후 제외됩니다.
+     */
+    public void setStrategies(LogStrategy... newStrategies) {
+        strategies.forEach(LogStrategy::flush);
+        strategies.clear();
+        strategies.addAll(List.of(newStrategies));
+    }
+
+    public void addStrategy(LogStrategy strategy) {
+        strategies.add(strategy);
+    }
+
+    public void removeStrategy(LogStrategy strategy) {
+        if (strategies.remove(strategy)) {
+            strategy.flush();
+        }
+    }
+
+    public List<LogStrategy> getStrategies() {
+        return List.copyOf(strategies);
+    }
+
+    /**
+     * 이 레벨 미만의 로그는 타임스탬프나 로그 문자열을 만들기 전에 버려집니다.
+     */
+    public void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public boolean isEnabled(LogLevel target) {
+        return target.isAtLeast(level);
+    }
+
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.isAtLeast(level);
+    }
+
+    public boolean isInfoEnabled() {
+        return LogLevel.INFO.isAtLeast(level);
+    }
+
+    /**
+     * 비동기 파이프라인을 멈추고 모든 전략을 닫습니다. (파일 버퍼 기록 포함)
+     */
+    public void close() {
+        commitTask.future.cancel(false);
+        disableAsync();
+        strategies.forEach(LogStrategy::close);
+    }
+
+    /**
+     * 타임스탬프를 시뮬레이션 시계 기준(T+초)으로 기록하도록 설정합니다.
+     * 가상 시간 실행에서는 벽시계 대신 시뮬레이션 시각이 찍힙니다.
+     */
+    public void setClock(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    // ========== 비동기 모드 ==========
+
+    /**
+     * 비동기 로깅을 켭니다. 이후 log 호출은 링 버퍼에 넣기만 하고 즉시 반환되며,
+     * 소비자 스레드가 묶음 단위로 포맷해 전략 체인에 씁니다.
+     * @param capacity 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param policy 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public synchronized void enableAsync(int capacity, OverflowPolicy policy) {
+        disableAsync();
+        asyncPipeline = new AsyncLogPipeline(capacity, policy, new BatchWriter());
+    }
+
+    /**
+     * 비동기 로깅을 끄고 버퍼에 남은 로그를 모두 출력합니다.
+     */
+    public synchronized void disableAsync() {
+        AsyncLogPipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            asyncPipeline = null;
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * 현재 비동기 파이프라인 (통계 조회용), 동기 모드면 null
+     */
+    public AsyncLogPipeline getAsyncPipeline() {
+        return asyncPipeline;
+    }
+
+    /**
+     * 비동기 모드에서 버퍼 초과로 버려진 로그 수
+     */
+    public long getDroppedLogCount() {
+        AsyncLogPipeline pipeline = asyncPipeline;
+        return pipeline == null ? 0 : pipeline.getDroppedCount();
     }
 
+    // ========== 로그 출력 ==========
+
     // 기본 log 메서드 (level이 없는 경우)
     public void log(String message) {
         // INFO 레벨로 간주하여 처리
         log("INFO", message);
     }
-    
+
     // 로그 레벨을 받는 오버로드된 log 메서드
     public void log(String level, String message) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        String logEntry = String.format("[%s] [%s] %s", timestamp, level, message);
-        
-        if (logArea != null) {
-            logArea.append(logEntry + "\n");
-            // 로그가 많아질 경우 자동으로 스크롤
-            logArea.setCaretPosition(logArea.getDocument().getLength());
-        } else {
-            System.out.println(logEntry);
-        }
-    }
-    
+        if (!isEnabled(LogLevel.of(level))) {
+            return;
+        }
+        SimulationClock c = clock; // 기록과 포맷에 같은 시간 기준을 쓰도록 한 번만 읽음
+        boolean simulationTime = c != null;
+        long timestamp = simulationTime ? c.nanoTime() : System.currentTimeMillis();
+        AsyncLogPipeline pipeline = asyncPipeline;
+        if (pipeline != null) {
+            pipeline.publish(timestamp, simulationTime, level, message);
+            return;
+        }
+
+        String formattedTime = formatTimestamp(timestamp, simulationTime);
+        for (LogStrategy strategy : strategies) {
+            strategy.log(formattedTime, level, message); // flush는 주기적 커밋에 맡김
+        }
+    }
+
     // 로그 레벨별 편의 메서드 추가
     public void info(String message) {
         log("INFO", message);
     }
-    
+
     public void warn(String message) {
         log("WARN", message);
     }
-    
+
     public void error(String message) {
         log("ERROR", message);
     }
-    
+
     public void debug(String message) {
         log("DEBUG", message);
     }
-}
\ No newline at end of file
+
+    // ========== 지연 생성 로그 ==========
+    // 레벨이 꺼져 있으면 분기 한 번으로 끝나고, 메시지 문자열은 만들지 않습니다.
+    // 패턴의 {} 자리에 인자를 순서대로 채웁니다.
+
+    public void log(LogLevel target, Supplier<String> message) {
+        if (isEnabled(target)) {
+            log(target.name(), message.get());
+        }
+    }
+
+    public void log(LogLevel target, String pattern, int arg) {
+        if (isEnabled(target)) {
+            log(target.name(), substitute(pattern, Integer.toString(arg), null, 1));
+        }
+    }
+
+    public void log(LogLevel target, String pattern, Object arg) {
+        if (isEnabled(target)) {
+            log(target.name(), substitute(pattern, arg, null, 1));
+        }
+    }
+
+    public void log(LogLevel target, String pattern, Object arg1, Object arg2) {
+        if (isEnabled(target)) {
+            log(target.name(), substitute(pattern, arg1, arg2, 2));
+        }
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void info(String pattern, int arg) {
+        log(LogLevel.INFO, pattern, arg);
+    }
+
+    public void info(String pattern, Object arg) {
+        log(LogLevel.INFO, pattern, arg);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.INFO, pattern, arg1, arg2);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void debug(String pattern, int arg) {
+        log(LogLevel.DEBUG, pattern, arg);
+    }
+
+    public void debug(String pattern, Object arg) {
+        log(LogLevel.DEBUG, pattern, arg);
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        log(LogLevel.DEBUG, pattern, arg1, arg2);
+    }
+
+    private static String substitute(String pattern, Object arg1, Object arg2, int argCount) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        int from = 0;
+        for (int i = 0; i < argCount; i++) {
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) break;
+            sb.append(pattern, from, at).append(i == 0 ? arg1 : arg2);
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
+    }
+
+    // ========== 포맷 ==========
+
+    // 시뮬레이션 시계 나노초는 T+초, 벽시계 밀리초는 날짜/시각 (기록할 때의 시간 기준을 따름)
+    private static String formatTimestamp(long timestamp, boolean simulationTime) {
+        if (!simulationTime) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMATTER);
+        }
+        return SimulationClock.appendSeconds(new StringBuilder(16).append("T+"), timestamp).append('s').toString();
+    }
+
+    /**
+     * 주기적 커밋: 모든 전략을 flush합니다. 닫지 않은 팩터리를 붙잡지 않도록 약한 참조로 들고,
+     * 팩터리가 수거되면 스스로 멈춥니다.
+     */
+    private static final class CommitTask implements Runnable {
+        private final WeakReference<LoggerFactory> factory;
+        private volatile ScheduledFuture<?> future;
+
+        CommitTask(LoggerFactory factory) {
+            this.factory = new WeakReference<>(factory);
+        }
+
+        @Override
+        public void run() {
+            LoggerFactory target = factory.get();
+            if (target == null) {
+                future.cancel(false);
+                return;
+            }
+            try {
+                target.strategies.forEach(LogStrategy::flush);
+            } catch (RuntimeException e) { // 기록 실패로 커밋 스레드가 멈추지 않도록
+                System.err.println("로그 커밋 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드에서 로그 묶음을 전략 체인에 기록하고, 묶음이 끝나면 한 번만 flush합니다.
+     * (파일 전략은 이 flush를 그룹 커밋 시점으로 사용합니다.)
+     */
+    private final class BatchWriter implements LogRingBuffer.BatchHandler {
+        @Override
+        public void onEvent(long timestamp, boolean simulationTime, String level, String message) {
+            String formattedTime = formatTimestamp(timestamp, simulationTime);
+            for (LogStrategy strategy : strategies) {
+                strategy.log(formattedTime, level, message);
+            }
+        }
+
+        @Override
+        public void endOfBatch() {
+            strategies.forEach(LogStrategy::flush);
+        }
+    }
+}
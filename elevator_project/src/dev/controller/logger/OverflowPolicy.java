@@ -0,0 +1,25 @@
+package dev.controller.logger;
+
+/**
+ * 비동기 로그 버퍼가 가득 찼을 때의 처리 방식
+ */
+public enum OverflowPolicy {
+    BLOCK("대기"),      // 빈 자리가 날 때까지 생산자 스레드가 기다림 (유실 없음)
+    DROP("버림"),       // 새 로그를 버리고 유실 카운터를 증가
+    SAMPLE("표본");     // 버퍼가 3/4 이상 차면 INFO/DEBUG는 일정 간격으로만 기록, 가득 차면 버림
+
+    private final String description;
+
+    OverflowPolicy(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
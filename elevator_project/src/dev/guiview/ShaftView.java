@@ -0,0 +1,247 @@
+package dev.guiview;
+
+import dev.model.Direction;
+import dev.model.ElevatorSnapshot;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 승강로(샤프트) 뷰
+ * 층마다 라벨을 두지 않고 Java2D로 직접 그립니다. 왼쪽부터 층 번호, 층별 대기 승객 열(많을수록 진한 색),
+ * 차량마다 샤프트 한 칸(정차 요청 층 표시 + 차량 위치/방향/탑승 인원)을 그립니다.
+ *
+ * refresh는 새 스냅샷과 마지막으로 그린 스냅샷을 비교해 바뀐 칸만 repaint하고,
+ * paintComponent는 클립 영역에 걸친 층만 그리므로 JScrollPane 안에서 큰 건물도 보이는 부분만 그립니다.
+ * 모든 메서드는 EDT에서 호출해야 합니다.
+ */
+public class ShaftView extends JComponent implements Scrollable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int ROW_HEIGHT = 18;
+    private static final int LABEL_WIDTH = 40;
+    private static final int WAITING_WIDTH = 56;
+    private static final int SHAFT_WIDTH = 44;
+    private static final int SHAFT_GAP = 4;
+    private static final int HEADER_HEIGHT = 20;
+    private static final int HEAT_FULL = 20; // 이 인원 이상이면 가장 진한 색
+    private static final int VISIBLE_ROWS = 24; // 기본 보이는 층 수
+
+    private static final Color GRID = new Color(225, 225, 225);
+    private static final Color SHAFT_BACKGROUND = new Color(245, 245, 245);
+    private static final Color REQUEST_MARK = new Color(255, 165, 0);
+    private static final Color CAR_UP = new Color(76, 175, 80);
+    private static final Color CAR_DOWN = new Color(33, 150, 243);
+    private static final Color CAR_IDLE = new Color(158, 158, 158);
+
+    private final Supplier<List<ElevatorSnapshot>> snapshots;
+    private final int minFloor;
+    private final int maxFloor;
+    private final int carCount;
+
+    // 마지막으로 그린 상태 (paintComponent와 변경 비교가 같은 스냅샷을 사용)
+    private ElevatorSnapshot[] painted;
+    private final int[] paintedWaiting; // 모든 차량 합계, 최저층부터
+
+    /**
+     * @param snapshots 차량 순서대로 최신 스냅샷을 돌려주는 공급자 (예: controller::getSnapshots)
+     */
+    public ShaftView(Supplier<List<ElevatorSnapshot>> snapshots) {
+        this.snapshots = snapshots;
+        List<ElevatorSnapshot> initial = snapshots.get();
+        ElevatorSnapshot first = initial.get(0);
+        this.minFloor = first.getMinFloor();
+        this.maxFloor = first.getMaxFloor();
+        this.carCount = initial.size();
+        this.painted = initial.toArray(new ElevatorSnapshot[0]);
+        this.paintedWaiting = new int[maxFloor - minFloor + 1];
+        sumWaiting(painted, paintedWaiting);
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
+    }
+
+    /**
+     * 최신 스냅샷을 읽어 바뀐 칸만 다시 그리도록 예약합니다.
+     */
+    public void refresh() {
+        ElevatorSnapshot[] next = snapshots.get().toArray(new ElevatorSnapshot[0]);
+        int[] waiting = new int[paintedWaiting.length];
+        sumWaiting(next, waiting);
+
+        for (int i = 0; i < waiting.length; i++) {
+            if (waiting[i] != paintedWaiting[i]) {
+                paintedWaiting[i] = waiting[i];
+                repaint(LABEL_WIDTH, rowY(minFloor + i), WAITING_WIDTH, ROW_HEIGHT);
+            }
+        }
+        for (int car = 0; car < carCount; car++) {
+            ElevatorSnapshot before = painted[car];
+            ElevatorSnapshot after = next[car];
+            if (before.getVersion() == after.getVersion()) continue;
+            int x = shaftX(car);
+            if (before.getCurrentFloor() != after.getCurrentFloor()
+                    || before.getDirection() != after.getDirection()
+                    || before.getOnboardCount() != after.getOnboardCount()) {
+                repaint(x, rowY(before.getCurrentFloor()), SHAFT_WIDTH, ROW_HEIGHT);
+                repaint(x, rowY(after.getCurrentFloor()), SHAFT_WIDTH, ROW_HEIGHT);
+            }
+            if (before.getRequestCount() != 0 || after.getRequestCount() != 0) {
+                for (int floor = minFloor; floor <= maxFloor; floor++) {
+                    if (before.hasRequestAt(floor) != after.hasRequestAt(floor)) {
+                        repaint(x, rowY(floor), SHAFT_WIDTH, ROW_HEIGHT);
+                    }
+                }
+            }
+        }
+        painted = next;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g2.setColor(getBackground());
+        g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        // 클립에 걸친 층만 그림 (위쪽이 최고층)
+        int top = Math.min(maxFloor, floorAt(clip.y));
+        int bottom = Math.max(minFloor, floorAt(clip.y + clip.height - 1));
+        FontMetrics metrics = g2.getFontMetrics();
+        int textOffset = (ROW_HEIGHT + metrics.getAscent() - metrics.getDescent()) / 2;
+
+        for (int floor = top; floor >= bottom; floor--) {
+            int y = rowY(floor);
+            g2.setColor(Color.DARK_GRAY);
+            g2.drawString(Integer.toString(floor), 6, y + textOffset);
+            paintWaiting(g2, floor, y, textOffset);
+            for (int car = 0; car < carCount; car++) {
+                paintShaftCell(g2, painted[car], shaftX(car), floor, y, textOffset);
+            }
+            g2.setColor(GRID);
+            g2.drawLine(0, y + ROW_HEIGHT - 1, getWidth(), y + ROW_HEIGHT - 1);
+        }
+    }
+
+    private void paintWaiting(Graphics2D g2, int floor, int y, int textOffset) {
+        int waiting = paintedWaiting[floor - minFloor];
+        if (waiting == 0) return;
+        float heat = Math.min(1f, waiting / (float) HEAT_FULL);
+        g2.setColor(new Color(1f, 1f - 0.7f * heat, 1f - 0.7f * heat));
+        g2.fillRect(LABEL_WIDTH, y + 1, WAITING_WIDTH, ROW_HEIGHT - 2);
+        g2.setColor(heat > 0.6f ? Color.WHITE : Color.BLACK);
+        g2.drawString("● " + waiting, LABEL_WIDTH + 4, y + textOffset);
+    }
+
+    private void paintShaftCell(Graphics2D g2, ElevatorSnapshot car, int x, int floor, int y, int textOffset) {
+        g2.setColor(SHAFT_BACKGROUND);
+        g2.fillRect(x, y, SHAFT_WIDTH, ROW_HEIGHT);
+        if (car.hasRequestAt(floor)) {
+            g2.setColor(REQUEST_MARK);
+            g2.fillRect(x, y + 3, 3, ROW_HEIGHT - 6);
+        }
+        if (car.getCurrentFloor() != floor) return;
+
+        g2.setColor(carColor(car.getDirection()));
+        g2.fillRoundRect(x + 4, y + 1, SHAFT_WIDTH - 8, ROW_HEIGHT - 2, 6, 6);
+        g2.setColor(Color.WHITE);
+        String arrow = car.getDirection() == Direction.UP ? "▲" : car.getDirection() == Direction.DOWN ? "▼" : "■";
+        g2.drawString(arrow + car.getOnboardCount(), x + 8, y + textOffset);
+    }
+
+    private static Color carColor(Direction direction) {
+        if (direction == Direction.UP) return CAR_UP;
+        if (direction == Direction.DOWN) return CAR_DOWN;
+        return CAR_IDLE;
+    }
+
+    /**
+     * JScrollPane 열 머리글로 쓸 차량 이름 줄을 만듭니다. (스크롤해도 고정)
+     */
+    public JComponent createColumnHeader() {
+        String[] ids = new String[carCount];
+        for (int car = 0; car < carCount; car++) {
+            ids[car] = painted[car].getCarId();
+        }
+        JComponent header = new JComponent() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                g.setColor(getParent() != null ? getParent().getBackground() : Color.WHITE);
+                g.fillRect(0, 0, getWidth(), getHeight());
+                g.setFont(ShaftView.this.getFont());
+                g.setColor(Color.DARK_GRAY);
+                int baseline = HEADER_HEIGHT - 6;
+                g.drawString("층", 6, baseline);
+                g.drawString("대기", LABEL_WIDTH + 4, baseline);
+                for (int car = 0; car < carCount; car++) {
+                    g.drawString(ids[car], shaftX(car) + 2, baseline);
+                }
+            }
+        };
+        header.setPreferredSize(new Dimension(getPreferredSize().width, HEADER_HEIGHT));
+        return header;
+    }
+
+    // ========== 좌표 ==========
+
+    private int rowY(int floor) {
+        return (maxFloor - floor) * ROW_HEIGHT;
+    }
+
+    private int floorAt(int y) {
+        return maxFloor - Math.floorDiv(y, ROW_HEIGHT);
+    }
+
+    private static int shaftX(int car) {
+        return LABEL_WIDTH + WAITING_WIDTH + SHAFT_GAP + car * (SHAFT_WIDTH + SHAFT_GAP);
+    }
+
+    private static void sumWaiting(ElevatorSnapshot[] cars, int[] target) {
+        for (ElevatorSnapshot car : cars) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] += car.getWaitingAt(car.getMinFloor() + i);
+            }
+        }
+    }
+
+    // ========== 크기 / 스크롤 ==========
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(shaftX(carCount), (maxFloor - minFloor + 1) * ROW_HEIGHT);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension size = getPreferredSize();
+        return new Dimension(size.width, Math.min(size.height, VISIBLE_ROWS * ROW_HEIGHT));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? ROW_HEIGHT : SHAFT_WIDTH + SHAFT_GAP;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int visible = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        int unit = getScrollableUnitIncrement(visibleRect, orientation, direction);
+        return Math.max(unit, visible - unit);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
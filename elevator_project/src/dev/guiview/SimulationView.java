@@ -1,26 +1,32 @@
 package dev.guiview;
 
 import dev.controller.ElevatorController;
-import dev.model.Elevator;
-import dev.model.Passenger;
 import dev.service.ElevatorService; // ElevatorService 임포트 추가
+import dev.view.logger.TextAreaLogStrategy;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.util.List;
-import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors; // Collectors 임포트 추가
 
 public class SimulationView extends JFrame {
+    // 상태 변경 알림을 모아 한 프레임(약 60fps)에 한 번만 다시 그림
+    private static final int FRAME_MILLIS = 16;
+
     private final ElevatorController controller;
+
+    private ShaftView shaftView;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final javax.swing.Timer refreshTimer;
     
     private JPanel elevatorPanel;
     private JTextArea logArea;
     private JButton runButton;
     private JButton stopButton;
+    private JButton pauseButton;
+    private JButton resetButton;
     private JButton addPassengerButton;
 
     // 스레드 상태를 시각적으로 표시할 패널들
@@ -44,11 +50,14 @@ public class SimulationView extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout(10, 10));
 
+        refreshTimer = new javax.swing.Timer(FRAME_MILLIS, e -> render());
+        refreshTimer.setRepeats(false);
+
         initializeUI();
         setupEventListeners();
         
-        // LoggerFactory에 JTextArea 연결
-        controller.getLoggerFactory().setLogArea(logArea);
+        // LoggerFactory의 출력 대상을 로그 창으로 설정
+        controller.getLoggerFactory().setStrategies(new TextAreaLogStrategy(logArea));
         
         // ElevatorService에 스레드 상태 리스너 설정
         // 컨트롤러를 통해 서비스의 리스너를 설정합니다.
@@ -64,9 +73,13 @@ public class SimulationView extends JFrame {
         JPanel controlPanel = new JPanel();
         runButton = new JButton("시작");
         stopButton = new JButton("중지");
+        pauseButton = new JButton("일시정지");
+        resetButton = new JButton("초기화");
         addPassengerButton = new JButton("승객 추가");
         controlPanel.add(runButton);
         controlPanel.add(stopButton);
+        controlPanel.add(pauseButton);
+        controlPanel.add(resetButton);
         controlPanel.add(addPassengerButton);
         add(controlPanel, BorderLayout.NORTH);
 
@@ -78,7 +91,13 @@ public class SimulationView extends JFrame {
 
         elevatorPanel = new JPanel();
         elevatorPanel.setBorder(BorderFactory.createTitledBorder("엘리베이터 상태"));
-        elevatorPanel.setLayout(new BoxLayout(elevatorPanel, BoxLayout.Y_AXIS)); // 엘리베이터 층 표시를 위한 레이아웃
+        elevatorPanel.setLayout(new BorderLayout());
+
+        // 층/차량 수가 많아도 보이는 부분만 그리도록 스크롤 영역에 넣음
+        shaftView = new ShaftView(controller::getSnapshots);
+        JScrollPane shaftScroll = new JScrollPane(shaftView);
+        shaftScroll.setColumnHeaderView(shaftView.createColumnHeader());
+        elevatorPanel.add(shaftScroll, BorderLayout.CENTER);
 
         // 스레드 상태를 시각적으로 표시할 패널
         JPanel threadStatusPanel = new JPanel(new GridLayout(3, 1, 5, 5)); // 3행 1열, 간격 5
@@ -157,6 +176,9 @@ public class SimulationView extends JFrame {
             } else if (status.equals("대기 중")) { // 스레드가 잠시 대기 상태일 경우
                 color = new Color(255, 255, 153); // 연한 노란색
                 iconChar = "🟡"; // 노란색 원
+            } else if (status.equals("일시정지")) {
+                color = new Color(173, 216, 230); // 연한 파란색
+                iconChar = "🔵"; // 파란색 원
             }
 
             if (threadName.equals("요청 처리")) {
@@ -186,22 +208,83 @@ public class SimulationView extends JFrame {
     private void setupEventListeners() {
         runButton.addActionListener(this::onRunSimulation);
         stopButton.addActionListener(this::onStopSimulation);
+        pauseButton.addActionListener(this::onPauseSimulation);
+        resetButton.addActionListener(this::onResetSimulation);
         addPassengerButton.addActionListener(this::onAddPassenger);
     }
 
     private void onRunSimulation(ActionEvent e) {
     	if (!controller.isRunning()) {
-            controller.startSimulation();
+            runLifecycle(controller::startSimulation, null);
         }
     }
     
     private void onStopSimulation(ActionEvent e) {
         if (controller.isRunning()) {
-            controller.stopSimulation(); // ElevatorService의 stopSimulation 호출
-            logArea.setText(""); // 로그 패널 내용 지우기
-            updateStatus(); // 최종 상태 업데이트
+            runLifecycle(controller::stopSimulation, () -> {
+                logArea.setText(""); // 로그 패널 내용 지우기
+                pauseButton.setText("일시정지");
+                updateStatus(); // 최종 상태 업데이트
+            });
         }
     }
+
+    private void onPauseSimulation(ActionEvent e) {
+        if (controller.isPaused()) {
+            controller.resumeSimulation();
+            pauseButton.setText("일시정지");
+        } else if (controller.isRunning()) {
+            controller.pauseSimulation();
+            pauseButton.setText("재개");
+        }
+    }
+
+    private void onResetSimulation(ActionEvent e) {
+        runLifecycle(controller::resetSimulation, () -> {
+            logArea.setText("");
+            pauseButton.setText("일시정지");
+            updateStatus();
+        });
+    }
+
+    /**
+     * 시작/중지/초기화는 이전 제어 스레드가 끝나기를 최대 몇 초 기다리므로 EDT 밖에서 실행합니다.
+     * 그동안 운행 버튼을 막아 두고, 끝나면 EDT에서 다시 켠 뒤 afterDone을 실행합니다.
+     * @param afterDone 실패해도 실행할 화면 정리 (null이면 없음)
+     */
+    private void runLifecycle(Runnable action, Runnable afterDone) {
+        setLifecycleButtonsEnabled(false);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                action.run();
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                setLifecycleButtonsEnabled(true);
+                try {
+                    get();
+                } catch (ExecutionException ex) { // 예: 이전 제어 스레드가 아직 끝나지 않음
+                    JOptionPane.showMessageDialog(SimulationView.this, ex.getCause().getMessage(), "오류",
+                        JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                if (afterDone != null) {
+                    afterDone.run();
+                }
+            }
+        }.execute();
+    }
+
+    private void setLifecycleButtonsEnabled(boolean enabled) {
+        runButton.setEnabled(enabled);
+        stopButton.setEnabled(enabled);
+        pauseButton.setEnabled(enabled);
+        resetButton.setEnabled(enabled);
+    }
     
     private void onAddPassenger(ActionEvent e) {
         JPanel panel = new JPanel(new GridLayout(2, 2));
@@ -225,62 +308,20 @@ public class SimulationView extends JFrame {
         }
     }
 
+    /**
+     * 화면 갱신을 요청합니다. 어느 스레드에서 몇 번을 호출해도 한 프레임에 한 번만 그립니다.
+     */
     public void updateStatus() {
-        // SwingUtilities.invokeLater를 사용하여 EDT에서 실행되도록 보장
-        SwingUtilities.invokeLater(() -> {
-            Elevator elevator = controller.getElevator();
-            elevatorPanel.removeAll();
-            elevatorPanel.setLayout(new BoxLayout(elevatorPanel, BoxLayout.Y_AXIS));
-            
-            // 현재 대기 중인 모든 승객 목록을 가져옵니다.
-            Queue<Passenger> allWaitingPassengers = controller.getWaitingPassengers();
-
-            for (int floor = elevator.getMaxFloor(); floor >= elevator.getMinFloor(); floor--) {
-                final int currentFloorInLoop = floor; 
-                
-                // 해당 층에 대기 중인 승객 수를 계산합니다.
-                long passengersWaitingOnThisFloor = allWaitingPassengers.stream()
-                                                    .filter(p -> p.getStartFloor() == currentFloorInLoop)
-                                                    .count();
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshTimer.start();
+        }
+    }
 
-                String floorStatus = String.format("층 %d: ", currentFloorInLoop);
-                if (currentFloorInLoop == elevator.getCurrentFloor()) {
-                    floorStatus += "🛗 [현재 엘리베이터 위치] ";
-                }
-                
-                // 대기 승객 수에 따라 이모티콘을 추가합니다.
-                if (passengersWaitingOnThisFloor > 0) {
-                    StringBuilder emojiString = new StringBuilder();
-                    int displayCount = (int) Math.min(passengersWaitingOnThisFloor, 5); // 최대 5개 이모티콘
-                    for (int i = 0; i < displayCount; i++) {
-                        emojiString.append("👨");
-                    }
-                    if (passengersWaitingOnThisFloor > 5) {
-                        emojiString.append("+"); // 5명 초과 시 + 표시
-                    }
-                    floorStatus += " [대기: " + emojiString.toString() + "] ";
-                }
-                
-                JLabel floorLabel = new JLabel(floorStatus);
-                elevatorPanel.add(floorLabel);
-            }
-            
-            // 엘리베이터 내부 승객 수를 이모티콘으로 표시
-            StringBuilder onboardEmojiString = new StringBuilder();
-            int onboardCount = elevator.getPassengers().size();
-            int onboardDisplayCount = (int) Math.min(onboardCount, 5); // 최대 5개 이모티콘
-            for (int i = 0; i < onboardDisplayCount; i++) {
-                onboardEmojiString.append("👤"); // 탑승 승객 이모티콘
-            }
-            if (onboardCount > 5) {
-                onboardEmojiString.append("+"); // 5명 초과 시 + 표시
-            }
-            JLabel passengerLabel = new JLabel("엘리베이터 내부 승객: " + onboardEmojiString.toString());
-            elevatorPanel.add(new JSeparator());
-            elevatorPanel.add(passengerLabel);
-            
-            elevatorPanel.revalidate();
-            elevatorPanel.repaint();
-        });
+    /**
+     * EDT에서 최신 스냅샷을 그립니다. 바뀐 칸만 다시 그리는 것은 ShaftView가 맡습니다.
+     */
+    private void render() {
+        refreshPending.set(false); // 그리는 동안 들어온 알림은 다음 프레임으로
+        shaftView.refresh();
     }
 }
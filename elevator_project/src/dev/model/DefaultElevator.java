@@ -103,11 +103,30 @@ public interface DefaultElevator {
     
     /**
      * 모든 요청 목록을 반환합니다.
+     * 호출마다 복사본을 만들므로 매 단계 실행되는 경로에서는 아래 조회 메서드를 사용합니다.
      */
     Set<Integer> getRequests();
     
     /**
-     * SCAN 알고리즘에 따른 다음 목적지를 반환합니다.
+     * 지정한 층보다 위에 있는 가장 가까운 요청 층을 반환합니다.
+     * @return 요청 층, 없으면 FloorRequestSet.NONE
+     */
+    int nextRequestAbove(int floor);
+    
+    /**
+     * 지정한 층보다 아래에 있는 가장 가까운 요청 층을 반환합니다.
+     * @return 요청 층, 없으면 FloorRequestSet.NONE
+     */
+    int nextRequestBelow(int floor);
+    
+    /**
+     * 지정한 층에서 가장 가까운 요청 층을 반환합니다. 거리가 같으면 아래층을 우선합니다.
+     * @return 요청 층, 없으면 FloorRequestSet.NONE
+     */
+    int nearestRequest(int floor);
+    
+    /**
+     * 스케줄링 전략에 따른 다음 목적지를 반환합니다.
      * @return 다음 층 번호, 요청이 없으면 null
      */
     Integer getNextDestination();
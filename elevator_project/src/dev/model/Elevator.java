@@ -1,10 +1,12 @@
 package dev.model;
 
+import dev.model.scheduling.LookStrategy;
+import dev.model.scheduling.SchedulingStrategy;
 import java.util.*;
 
 /**
  * 엘레베이터 모델 클래스
- * SCAN 알고리즘을 위한 핵심 데이터를 관리합니다.
+ * 스케줄링 전략(SchedulingStrategy)이 사용하는 핵심 데이터를 관리합니다.
  * DefaultElevator 인터페이스를 구현합니다.
  */
 public class Elevator implements DefaultElevator {
@@ -13,10 +15,11 @@ public class Elevator implements DefaultElevator {
     private Direction direction;                // 현재 방향
     private final int minFloor;                 // 최저층
     private final int maxFloor;                 // 최고층
-    private final Set<Integer> requests;        // 요청된 층들
+    private final FloorRequestSet requests;     // 요청된 층들 (비트셋)
     private final Queue<Passenger> passengers;  // 탑승한 승객들
     private final int capacity;                 // 최대 수용 인원
     private boolean isMoving;                   // 이동 중 여부
+    private SchedulingStrategy schedulingStrategy = new LookStrategy(); // 운행 순서 전략
     
     public Elevator(int minFloor, int maxFloor, int capacity) {
         this("ELV-DEFAULT", minFloor, maxFloor, capacity);
@@ -29,7 +32,7 @@ public class Elevator implements DefaultElevator {
         this.capacity = capacity;
         this.currentFloor = minFloor;
         this.direction = Direction.IDLE;
-        this.requests = new TreeSet<>();
+        this.requests = new FloorRequestSet(minFloor, maxFloor);
         this.passengers = new LinkedList<>();
         this.isMoving = false;
     }
@@ -124,12 +127,45 @@ public class Elevator implements DefaultElevator {
     
     @Override
     public Set<Integer> getRequests() {
-        return new TreeSet<>(requests);
+        return requests.toSortedSet();
+    }
+
+    /**
+     * 요청 층 집합의 독립된 복사본 (상태 스냅샷 게시용)
+     */
+    public FloorRequestSet copyRequests() {
+        return requests.copy();
+    }
+
+    /**
+     * 요청 층 집합이 바뀐 횟수 (같으면 이전 복사본을 재사용할 수 있음)
+     */
+    public int getRequestsModCount() {
+        return requests.getModCount();
+    }
+
+    @Override
+    public int nextRequestAbove(int floor) {
+        return requests.nextAbove(floor);
+    }
+
+    @Override
+    public int nextRequestBelow(int floor) {
+        return requests.nextBelow(floor);
+    }
+
+    @Override
+    public int nearestRequest(int floor) {
+        return requests.nearest(floor);
     }
     
+    /**
+     * 설정된 스케줄링 전략이 고른 다음 목표 층을 반환합니다. 방향은 바꾸지 않습니다.
+     */
     @Override
     public Integer getNextDestination() {
-        return getNextFloor(); // 기존 메서드 재사용
+        int target = schedulingStrategy.nextTarget(this);
+        return target == FloorRequestSet.NONE ? null : target;
     }
     
     @Override
@@ -187,6 +223,25 @@ public class Elevator implements DefaultElevator {
         passengers.clear();
     }
     
+    /**
+     * 위치, 방향, 요청 층, 탑승 승객(탑승 순서)을 그대로 복원합니다. (체크포인트 복원용)
+     */
+    public void restore(int floor, Direction direction, boolean moving, int[] requestFloors, List<Passenger> onboard) {
+        if (!isValidFloor(floor)) {
+            throw new IllegalArgumentException("잘못된 층 번호입니다: " + floor + " (범위: " + minFloor + "~" + maxFloor + ")");
+        }
+        reset();
+        this.currentFloor = floor;
+        this.direction = direction;
+        this.isMoving = moving;
+        for (int requestFloor : requestFloors) {
+            if (isValidFloor(requestFloor)) {
+                requests.add(requestFloor);
+            }
+        }
+        passengers.addAll(onboard);
+    }
+
     @Override
     public void stop() {
         direction = Direction.IDLE;
@@ -216,89 +271,24 @@ public class Elevator implements DefaultElevator {
         return getCurrentDirection();
     }
     
-    // ========== SCAN 알고리즘 핵심 로직 ==========
+    // ========== 스케줄링 ==========
     
     /**
-     * SCAN 알고리즘을 위한 다음 층 결정
+     * 운행 순서를 정하는 전략을 설정합니다. (기본값 LOOK)
      */
-    public Integer getNextFloor() {
-        if (requests.isEmpty()) {
-            return null;
-        }
-        
-        return switch (direction) {
-            case UP -> getNextUpwardFloor();
-            case DOWN -> getNextDownwardFloor();
-            default -> getClosestFloor();
-        };
-    }
-    
-    private Integer getNextUpwardFloor() {
-        // 현재 층보다 위에 있는 요청 중 가장 가까운 층
-        for (Integer floor : requests) {
-            if (floor > currentFloor) {
-                return floor;
-            }
-        }
-        
-        // 위쪽에 요청이 없으면 방향을 바꿔서 아래쪽 요청 처리
-        if (hasDownwardRequests()) {
-            setDirection(Direction.DOWN);
-            return getNextDownwardFloor();
-        }
-        
-        return null;
+    public void setSchedulingStrategy(SchedulingStrategy schedulingStrategy) {
+        this.schedulingStrategy = schedulingStrategy;
     }
     
-    private Integer getNextDownwardFloor() {
-        // 현재 층보다 아래에 있는 요청 중 가장 가까운 층 (내림차순으로)
-        Integer[] floorsArray = requests.toArray(new Integer[0]);
-        for (int i = floorsArray.length - 1; i >= 0; i--) {
-            if (floorsArray[i] < currentFloor) {
-                return floorsArray[i];
-            }
-        }
-        
-        // 아래쪽에 요청이 없으면 방향을 바꿔서 위쪽 요청 처리
-        if (hasUpwardRequests()) {
-            setDirection(Direction.UP);
-            return getNextUpwardFloor();
-        }
-        
-        return null;
+    public SchedulingStrategy getSchedulingStrategy() {
+        return schedulingStrategy;
     }
     
-    private Integer getClosestFloor() {
-        // 방향이 IDLE일 때는 가장 가까운 층으로
-        Integer closest = null;
-        int minDistance = Integer.MAX_VALUE;
-        
-        for (Integer floor : requests) {
-            int distance = Math.abs(floor - currentFloor);
-            if (distance < minDistance) {
-                minDistance = distance;
-                closest = floor;
-            }
-        }
-        
-        // 방향 설정
-        if (closest != null) {
-            if (closest > currentFloor) {
-                setDirection(Direction.UP);
-            } else if (closest < currentFloor) {
-                setDirection(Direction.DOWN);
-            }
-        }
-        
-        return closest;
-    }
-    
-    private boolean hasUpwardRequests() {
-        return requests.stream().anyMatch(floor -> floor > currentFloor);
-    }
-    
-    private boolean hasDownwardRequests() {
-        return requests.stream().anyMatch(floor -> floor < currentFloor);
+    /**
+     * 다음 목표 층 (하위 호환성, getNextDestination과 같음)
+     */
+    public Integer getNextFloor() {
+        return getNextDestination();
     }
     
     // ========== 유틸리티 메서드 ==========
@@ -310,10 +300,20 @@ public class Elevator implements DefaultElevator {
         this.isMoving = moving;
     }
     
+    /**
+     * 현재 상태를 StringBuilder에 직접 덧붙입니다. (String.format 없이 렌더링)
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append(id).append("[층:").append(currentFloor)
+            .append(", 방향:").append(direction.getDescription())
+            .append(", 요청:");
+        requests.appendTo(sb);
+        return sb.append(", 승객:").append(passengers.size()).append('/').append(capacity)
+            .append(", 이동중:").append(isMoving ? "예" : "아니오").append(']');
+    }
+    
     @Override
     public String toString() {
-        return String.format("%s[층:%d, 방향:%s, 요청:%s, 승객:%d/%d, 이동중:%s]", 
-            id, currentFloor, direction, requests, passengers.size(), capacity, 
-            isMoving ? "예" : "아니오");
+        return appendTo(new StringBuilder(64)).toString();
     }
 }
\ No newline at end of file
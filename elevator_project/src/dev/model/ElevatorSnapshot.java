@@ -0,0 +1,100 @@
+package dev.model;
+
+/**
+ * 차량 상태의 불변 스냅샷
+ * 소유 스레드가 단계마다 새로 만들어 volatile 참조 하나로 게시하므로,
+ * GUI, 통계, 내보내기 코드는 락 없이 한 시점의 일관된 상태를 읽습니다.
+ * 버전은 게시할 때마다 1씩 증가하므로 같은 버전이면 다시 그릴 필요가 없습니다.
+ */
+public final class ElevatorSnapshot {
+    private final String carId;
+    private final long version;
+    private final long timeNanos;
+    private final int minFloor;
+    private final int maxFloor;
+    private final int capacity;
+    private final int currentFloor;
+    private final Direction direction;
+    private final int onboardCount;
+    private final FloorRequestSet requests; // 게시 후 수정하지 않는 복사본
+    private final int[] waitingByFloor;     // 최저층부터 층별 대기 승객 수
+    private final int waitingCount;
+    private final int stopCount;
+
+    /**
+     * 바뀌지 않은 요청 층 집합과 층별 대기 수는 이전 스냅샷과 같은 객체를 공유할 수 있습니다.
+     * @param requests 요청 층 집합 복사본 (이후 수정하지 않아야 함)
+     * @param waitingByFloor 최저층부터 층별 대기 승객 수 (이후 수정하지 않아야 함)
+     * @param waitingCount 대기 승객 총수
+     */
+    public ElevatorSnapshot(Elevator elevator, long version, long timeNanos,
+                            FloorRequestSet requests, int[] waitingByFloor, int waitingCount, int stopCount) {
+        if (waitingByFloor.length != elevator.getMaxFloor() - elevator.getMinFloor() + 1) {
+            throw new IllegalArgumentException("층별 대기 수 배열 길이가 층 수와 다릅니다: " + waitingByFloor.length);
+        }
+        this.carId = elevator.getId();
+        this.version = version;
+        this.timeNanos = timeNanos;
+        this.minFloor = elevator.getMinFloor();
+        this.maxFloor = elevator.getMaxFloor();
+        this.capacity = elevator.getCapacity();
+        this.currentFloor = elevator.getCurrentFloor();
+        this.direction = elevator.getDirection();
+        this.onboardCount = elevator.getCurrentPassengerCount();
+        this.requests = requests;
+        this.waitingByFloor = waitingByFloor;
+        this.waitingCount = waitingCount;
+        this.stopCount = stopCount;
+    }
+
+    // Getters
+    public String getCarId() { return carId; }
+    public long getVersion() { return version; }
+    public long getTimeNanos() { return timeNanos; }
+    public int getMinFloor() { return minFloor; }
+    public int getMaxFloor() { return maxFloor; }
+    public int getCapacity() { return capacity; }
+    public int getCurrentFloor() { return currentFloor; }
+    public Direction getDirection() { return direction; }
+    public int getOnboardCount() { return onboardCount; }
+    public int getWaitingCount() { return waitingCount; }
+    public int getStopCount() { return stopCount; }
+
+    public boolean hasRequestAt(int floor) {
+        return requests.contains(floor);
+    }
+
+    public int getRequestCount() {
+        return requests.size();
+    }
+
+    /**
+     * 해당 층의 대기 승객 수 (범위 밖이면 0)
+     */
+    public int getWaitingAt(int floor) {
+        if (floor < minFloor || floor > maxFloor) return 0;
+        return waitingByFloor[floor - minFloor];
+    }
+
+    /**
+     * 요청 층 집합의 복사본 (스냅샷 자체는 수정되지 않음)
+     */
+    public FloorRequestSet copyRequests() {
+        return requests.copy();
+    }
+
+    /**
+     * "ELV-01 v12 [5층, UP, 탑승 3/8, 대기 7, 요청 [2, 9]]" 형식으로 덧붙입니다.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append(carId).append(" v").append(version).append(" [").append(currentFloor).append("층, ")
+            .append(direction).append(", 탑승 ").append(onboardCount).append('/').append(capacity)
+            .append(", 대기 ").append(waitingCount).append(", 요청 ");
+        return requests.appendTo(sb).append(']');
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(64)).toString();
+    }
+}
@@ -0,0 +1,207 @@
+package dev.model;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * 요청 층을 비트 단위로 보관하는 집합
+ * 층 하나가 비트 하나이며, 위/아래 방향 다음 요청 층 조회는 워드 단위로 처리되어
+ * 건물 높이와 관계없이 객체를 생성하지 않습니다.
+ * 스레드 안전하지 않으므로 소유한 엘리베이터와 같은 락 안에서 사용해야 합니다.
+ */
+public final class FloorRequestSet {
+    /** 해당하는 요청 층이 없음을 나타내는 값 */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private final int minFloor;
+    private final int maxFloor;
+    private final long[] words;
+    private int size;
+    private int modCount; // 내용이 바뀔 때마다 증가 (스냅샷 재사용 판단용)
+
+    public FloorRequestSet(int minFloor, int maxFloor) {
+        if (maxFloor < minFloor) {
+            throw new IllegalArgumentException("최고층이 최저층보다 낮습니다: " + minFloor + "~" + maxFloor);
+        }
+        this.minFloor = minFloor;
+        this.maxFloor = maxFloor;
+        this.words = new long[((maxFloor - minFloor) >> 6) + 1];
+    }
+
+    private FloorRequestSet(FloorRequestSet source) {
+        this.minFloor = source.minFloor;
+        this.maxFloor = source.maxFloor;
+        this.words = source.words.clone();
+        this.size = source.size;
+    }
+
+    /**
+     * 같은 내용의 독립된 복사본을 만듭니다. (다른 스레드에 게시할 스냅샷용)
+     */
+    public FloorRequestSet copy() {
+        return new FloorRequestSet(this);
+    }
+
+    // ========== 기본 연산 ==========
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int floor) {
+        if (!inRange(floor)) return false;
+        int bit = floor - minFloor;
+        long mask = 1L << bit;
+        long word = words[bit >> 6];
+        if ((word & mask) != 0) return false;
+        words[bit >> 6] = word | mask;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * @return 제거되었으면 true
+     */
+    public boolean remove(int floor) {
+        if (!inRange(floor)) return false;
+        int bit = floor - minFloor;
+        long mask = 1L << bit;
+        long word = words[bit >> 6];
+        if ((word & mask) == 0) return false;
+        words[bit >> 6] = word & ~mask;
+        size--;
+        modCount++;
+        return true;
+    }
+
+    public boolean contains(int floor) {
+        if (!inRange(floor)) return false;
+        int bit = floor - minFloor;
+        return (words[bit >> 6] & (1L << bit)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 내용이 바뀐 횟수. 값이 같으면 마지막으로 확인한 뒤 내용이 바뀌지 않았습니다.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0L);
+        if (size > 0) modCount++;
+        size = 0;
+    }
+
+    // ========== 방향별 조회 ==========
+
+    /**
+     * 지정한 층보다 위에 있는 가장 가까운 요청 층을 반환합니다.
+     * @return 요청 층, 없으면 NONE
+     */
+    public int nextAbove(int floor) {
+        if (size == 0 || floor >= maxFloor) return NONE;
+        int bit = Math.max(floor - minFloor + 1, 0);
+        int index = bit >> 6;
+        long word = words[index] & (-1L << bit);
+        while (true) {
+            if (word != 0) {
+                return minFloor + (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) return NONE;
+            word = words[index];
+        }
+    }
+
+    /**
+     * 지정한 층보다 아래에 있는 가장 가까운 요청 층을 반환합니다.
+     * @return 요청 층, 없으면 NONE
+     */
+    public int nextBelow(int floor) {
+        if (size == 0 || floor <= minFloor) return NONE;
+        int bit = Math.min(floor - minFloor - 1, maxFloor - minFloor);
+        int index = bit >> 6;
+        long word = words[index] & (-1L >>> (63 - (bit & 63)));
+        while (true) {
+            if (word != 0) {
+                return minFloor + (index << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+            if (index-- == 0) return NONE;
+            word = words[index];
+        }
+    }
+
+    /**
+     * 지정한 층에서 가장 가까운 요청 층을 반환합니다. 거리가 같으면 아래층을 우선합니다.
+     * @return 요청 층 (해당 층 자체 포함), 없으면 NONE
+     */
+    public int nearest(int floor) {
+        if (contains(floor)) return floor;
+        int above = nextAbove(floor);
+        int below = nextBelow(floor);
+        if (above == NONE) return below;
+        if (below == NONE) return above;
+        return (above - floor) < (floor - below) ? above : below;
+    }
+
+    // ========== 순회 / 변환 ==========
+
+    /**
+     * 요청 층을 오름차순으로 순회합니다.
+     */
+    public void forEach(IntConsumer action) {
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            while (word != 0) {
+                action.accept(minFloor + (index << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * 정렬된 Set 복사본을 반환합니다. (기존 API 호환용, 매 호출마다 할당)
+     */
+    public Set<Integer> toSortedSet() {
+        Set<Integer> result = new TreeSet<>();
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * "[2, 5, 9]" 형식으로 StringBuilder에 덧붙입니다.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append('[');
+        boolean first = true;
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            while (word != 0) {
+                if (!first) sb.append(", ");
+                sb.append(minFloor + (index << 6) + Long.numberOfTrailingZeros(word));
+                first = false;
+                word &= word - 1;
+            }
+        }
+        return sb.append(']');
+    }
+
+    private boolean inRange(int floor) {
+        return floor >= minFloor && floor <= maxFloor;
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+}
@@ -1,52 +1,88 @@
 package dev.model;
 
-import java.time.LocalTime;
+import dev.model.clock.SimulationClock;
+import dev.model.clock.SystemClock;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 승객 모델 클래스
+ * 요청/탑승/도착 시각은 SimulationClock 기준 나노초로 기록합니다.
  */
 public class Passenger {
-    private static int idCounter = 1;
-    
+    private static final long NOT_RECORDED = -1L;
+    // 번호를 직접 받지 않는 생성자용 전역 번호 (시뮬레이션별 번호는 PassengerService가 부여)
+    private static final AtomicInteger GLOBAL_IDS = new AtomicInteger(1);
+
     private final int id;
     private final int startFloor;
     private final int destinationFloor;
-    private final LocalTime requestTime;
-    private LocalTime boardingTime;
-    private LocalTime arrivalTime;
-    
+    private final SimulationClock clock;
+    private final long requestNanos;
+    private long boardingNanos = NOT_RECORDED;
+    private long arrivalNanos = NOT_RECORDED;
+
     public Passenger(int startFloor, int destinationFloor) {
-        this.id = idCounter++;
+        this(startFloor, destinationFloor, SystemClock.INSTANCE);
+    }
+
+    public Passenger(int startFloor, int destinationFloor, SimulationClock clock) {
+        this(GLOBAL_IDS.getAndIncrement(), startFloor, destinationFloor, clock);
+    }
+
+    /**
+     * 번호를 지정해 승객을 생성합니다.
+     * 같은 JVM에서 여러 시뮬레이션을 동시에 돌릴 때 서로의 번호에 영향을 주지 않도록 사용합니다.
+     */
+    public Passenger(int id, int startFloor, int destinationFloor, SimulationClock clock) {
+        this(id, startFloor, destinationFloor, clock, clock.nanoTime());
+    }
+
+    /**
+     * 요청 시각을 지정해 승객을 생성합니다. (체크포인트 복원용)
+     */
+    public Passenger(int id, int startFloor, int destinationFloor, SimulationClock clock, long requestNanos) {
+        this.id = id;
         this.startFloor = startFloor;
         this.destinationFloor = destinationFloor;
-        this.requestTime = LocalTime.now();
+        this.clock = clock;
+        this.requestNanos = requestNanos;
     }
-    
+
     // Getters
     public int getId() {
         return id;
     }
-    
+
     public int getStartFloor() {
         return startFloor;
     }
-    
+
     public int getDestinationFloor() {
         return destinationFloor;
     }
-    
-    public LocalTime getRequestTime() {
-        return requestTime;
+
+    public long getRequestNanos() {
+        return requestNanos;
     }
-    
-    public LocalTime getBoardingTime() {
-        return boardingTime;
+
+    // 탑승 전이면 -1
+    public long getBoardingNanos() {
+        return boardingNanos;
+    }
+
+    // 도착 전이면 -1
+    public long getArrivalNanos() {
+        return arrivalNanos;
     }
-    
-    public LocalTime getArrivalTime() {
-        return arrivalTime;
+
+    public boolean hasBoarded() {
+        return boardingNanos != NOT_RECORDED;
+    }
+
+    public boolean hasArrived() {
+        return arrivalNanos != NOT_RECORDED;
     }
-    
+
     // 승객의 이동 방향
     public Direction getDirection() {
         if (destinationFloor > startFloor) {
@@ -56,46 +92,76 @@ public class Passenger {
         }
         return Direction.IDLE;
     }
-    
+
     // 시간 기록
     public void board() {
-        this.boardingTime = LocalTime.now();
+        board(clock.nanoTime());
     }
-    
+
     public void arrive() {
-        this.arrivalTime = LocalTime.now();
+        arrive(clock.nanoTime());
     }
-    
-    // 대기 시간 계산 (초 단위)
-    public long getWaitingTime() {
-        if (boardingTime == null) {
-            return java.time.Duration.between(requestTime, LocalTime.now()).getSeconds();
-        }
-        return java.time.Duration.between(requestTime, boardingTime).getSeconds();
+
+    // 한 번 정차에서 타고 내리는 승객이 같은 시각을 쓰도록 시각을 지정해 기록
+    public void board(long nanos) {
+        this.boardingNanos = nanos;
     }
-    
-    // 총 소요 시간 계산 (초 단위)
-    public long getTotalTime() {
-        if (arrivalTime == null) {
-            return getWaitingTime();
+
+    public void arrive(long nanos) {
+        this.arrivalNanos = nanos;
+    }
+
+    // 대기 시간 계산 (나노초 단위, 탑승 전이면 현재까지)
+    public long getWaitingNanos() {
+        long end = hasBoarded() ? boardingNanos : clock.nanoTime();
+        return end - requestNanos;
+    }
+
+    // 총 소요 시간 계산 (나노초 단위)
+    public long getTotalNanos() {
+        if (!hasArrived()) {
+            return getWaitingNanos();
         }
-        return java.time.Duration.between(requestTime, arrivalTime).getSeconds();
+        return arrivalNanos - requestNanos;
     }
-    
-    // 탑승 시간 계산 (초 단위)
-    public long getRidingTime() {
-        if (boardingTime == null || arrivalTime == null) {
+
+    // 탑승 시간 계산 (나노초 단위)
+    public long getRidingNanos() {
+        if (!hasBoarded() || !hasArrived()) {
             return 0;
         }
-        return java.time.Duration.between(boardingTime, arrivalTime).getSeconds();
+        return arrivalNanos - boardingNanos;
+    }
+
+    // 대기 시간 계산 (초 단위)
+    public double getWaitingTime() {
+        return SimulationClock.toSeconds(getWaitingNanos());
     }
-    
+
+    // 총 소요 시간 계산 (초 단위)
+    public double getTotalTime() {
+        return SimulationClock.toSeconds(getTotalNanos());
+    }
+
+    // 탑승 시간 계산 (초 단위)
+    public double getRidingTime() {
+        return SimulationClock.toSeconds(getRidingNanos());
+    }
+
+    /**
+     * "승객1[3→7, 요청:1.250s]" 형식으로 덧붙입니다. (String.format 없이 렌더링)
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append("승객").append(id).append('[').append(startFloor).append('→').append(destinationFloor)
+            .append(", 요청:");
+        return SimulationClock.appendSeconds(sb, requestNanos).append("s]");
+    }
+
     @Override
     public String toString() {
-        return String.format("승객%d[%d→%d, 요청:%s]", 
-            id, startFloor, destinationFloor, requestTime.toString().substring(0, 8));
+        return appendTo(new StringBuilder(32)).toString();
     }
-    
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -103,9 +169,9 @@ public class Passenger {
         Passenger passenger = (Passenger) obj;
         return id == passenger.id;
     }
-    
+
     @Override
     public int hashCode() {
         return Integer.hashCode(id);
     }
-}
\ No newline at end of file
+}
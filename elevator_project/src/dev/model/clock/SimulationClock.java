@@ -0,0 +1,45 @@
+package dev.model.clock;
+
+/**
+ * 시뮬레이션 시각을 제공하는 시계 추상화
+ * 승객 시각 기록과 로그 타임스탬프가 이 시계를 사용하므로,
+ * 실제 시간 실행과 가상 시간(가속/재생) 실행 모두에서 올바른 소요 시간을 얻을 수 있습니다.
+ */
+public interface SimulationClock {
+
+    /**
+     * 시뮬레이션 기준 시점부터 흐른 시간을 나노초로 반환합니다.
+     * 단조 증가하며 자정을 넘어도 끊기지 않습니다.
+     */
+    long nanoTime();
+
+    /**
+     * 나노초를 초 단위 실수로 변환합니다.
+     */
+    static double toSeconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    /**
+     * 나노초를 소수점 셋째 자리까지의 초("12.345")로 덧붙입니다. String.format을 쓰지 않습니다.
+     */
+    static StringBuilder appendSeconds(StringBuilder sb, long nanos) {
+        long millis = Math.round(nanos / 1_000_000.0);
+        if (millis < 0) {
+            sb.append('-');
+            millis = -millis;
+        }
+        long fraction = millis % 1000;
+        sb.append(millis / 1000).append('.');
+        if (fraction < 100) sb.append('0');
+        if (fraction < 10) sb.append('0');
+        return sb.append(fraction);
+    }
+
+    /**
+     * 나노초를 소수점 셋째 자리까지의 초 문자열로 변환합니다.
+     */
+    static String formatSeconds(long nanos) {
+        return appendSeconds(new StringBuilder(12), nanos).toString();
+    }
+}
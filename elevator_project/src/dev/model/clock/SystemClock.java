@@ -0,0 +1,20 @@
+package dev.model.clock;
+
+/**
+ * 실제 경과 시간을 사용하는 시계
+ * System.nanoTime() 기반이라 벽시계 조정이나 자정의 영향을 받지 않습니다.
+ */
+public final class SystemClock implements SimulationClock {
+    public static final SystemClock INSTANCE = new SystemClock();
+
+    // 시각이 0 근처에서 시작하도록 클래스 로딩 시점을 기준으로 삼음
+    private static final long ORIGIN = System.nanoTime();
+
+    private SystemClock() {
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime() - ORIGIN;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.model.logger;
+
+/**
+ * 로그 레벨 (낮은 것부터 DEBUG < INFO < WARN < ERROR)
+ */
+public enum LogLevel {
+    DEBUG("디버그"),
+    INFO("정보"),
+    WARN("경고"),
+    ERROR("오류");
+
+    private final String description;
+
+    LogLevel(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 이 레벨이 기준 레벨 이상인지 확인합니다.
+     */
+    public boolean isAtLeast(LogLevel threshold) {
+        return ordinal() >= threshold.ordinal();
+    }
+
+    /**
+     * 문자열 레벨 이름을 변환합니다. 알 수 없는 이름은 INFO로 간주합니다.
+     */
+    public static LogLevel of(String name) {
+        return switch (name) {
+            case "DEBUG", "debug" -> DEBUG;
+            case "WARN", "warn" -> WARN;
+            case "ERROR", "error" -> ERROR;
+            default -> INFO;
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package dev.model.logger.strategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대용량 버퍼를 쓰는 고속 파일 로그 전략
+ * 로그를 직접 버퍼(ByteBuffer)에 인코딩해 두고, 버퍼가 차거나 커밋 주기가 지났을 때만
+ * FileChannel에 한 번에 기록합니다(그룹 커밋). 파일 크기나 경과 시간 기준으로 롤링합니다.
+ * flush는 LoggerFactory의 주기적 커밋에서도 불리므로, 로그가 끊겨도 남은 내용은 커밋 주기의 약 두 배 안에 기록됩니다.
+ */
+public class BufferedFileLogStrategy implements LogStrategy {
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;            // 1 MiB
+    public static final long DEFAULT_MAX_FILE_BYTES = 64L << 20;       // 64 MiB
+    public static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 200;
+
+    private static final DateTimeFormatter ROLL_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path path;
+    private final long maxFileBytes;        // 0이면 크기 기준 롤링 안 함
+    private final long rollIntervalNanos;   // 0이면 시간 기준 롤링 안 함
+    private final long commitIntervalNanos;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder line = new StringBuilder(256);
+
+    private FileChannel channel;
+    private long fileBytes;
+    private long openedAtNanos;
+    private long lastCommitNanos;
+    private int rolledFiles;
+
+    public BufferedFileLogStrategy(String filePath) {
+        this(Paths.get(filePath), DEFAULT_BUFFER_BYTES, DEFAULT_MAX_FILE_BYTES, 0, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * @param path 기록할 파일 경로
+     * @param bufferBytes 버퍼 크기
+     * @param maxFileBytes 이 크기를 넘으면 롤링 (0이면 사용 안 함)
+     * @param rollIntervalMillis 이 시간이 지나면 롤링 (0이면 사용 안 함)
+     * @param commitIntervalMillis flush 요청이 와도 이 주기보다 자주 기록하지 않음
+     */
+    public BufferedFileLogStrategy(Path path, int bufferBytes, long maxFileBytes,
+                                   long rollIntervalMillis, long commitIntervalMillis) {
+        this.path = path;
+        this.maxFileBytes = maxFileBytes;
+        this.rollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(rollIntervalMillis);
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        openChannel();
+    }
+
+    @Override
+    public void log(String level, String message) {
+        log(LocalDateTime.now().toString(), level, message);
+    }
+
+    @Override
+    public synchronized void log(String timestamp, String level, String message) {
+        if (channel == null) return; // 이미 닫힘
+        line.setLength(0);
+        line.append(timestamp).append(" [").append(level).append("] ").append(message).append('\n');
+        CharBuffer chars = CharBuffer.wrap(line);
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                commit(); // 버퍼가 가득 차면 즉시 기록하고 이어서 인코딩
+            } else {
+                break;
+            }
+        }
+        encoder.reset();
+    }
+
+    /**
+     * 커밋 주기가 지났을 때만 버퍼를 파일에 기록합니다. (그룹 커밋)
+     */
+    @Override
+    public synchronized void flush() {
+        if (channel != null && buffer.position() > 0
+                && System.nanoTime() - lastCommitNanos >= commitIntervalNanos) {
+            commit();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) return;
+        commit();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("로그 파일 닫기 실패: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    public synchronized int getRolledFileCount() {
+        return rolledFiles;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // ========== 내부 처리 ==========
+
+    private void commit() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                fileBytes += channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("로그 파일 기록 실패: " + e.getMessage());
+        } finally {
+            buffer.clear();
+        }
+        lastCommitNanos = System.nanoTime();
+        rollIfNeeded();
+    }
+
+    private void rollIfNeeded() {
+        boolean bySize = maxFileBytes > 0 && fileBytes >= maxFileBytes;
+        boolean byTime = rollIntervalNanos > 0 && System.nanoTime() - openedAtNanos >= rollIntervalNanos;
+        if (!bySize && !byTime) return;
+
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String extension = dot > 0 ? fileName.substring(dot) : "";
+        Path rolled = path.resolveSibling(base + "-" + LocalDateTime.now().format(ROLL_SUFFIX) + extension);
+        try {
+            channel.close();
+            Files.move(path, rolled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("로그 파일 롤링 실패: " + e.getMessage());
+        }
+        rolledFiles++;
+        openChannel();
+    }
+
+    private void openChannel() {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            fileBytes = channel.size();
+        } catch (IOException e) {
+            throw new RuntimeException("로그 파일 생성 실패: " + e.getMessage());
+        }
+        openedAtNanos = System.nanoTime();
+        lastCommitNanos = openedAtNanos;
+    }
+}
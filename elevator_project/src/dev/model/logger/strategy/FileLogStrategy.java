@@ -17,8 +17,23 @@ public class FileLogStrategy implements LogStrategy {
     }
 
     @Override
-    public void log(String level, String message) {
-        writer.println(LocalDateTime.now() + " [" + level + "] " + message);
+    public synchronized void log(String level, String message) {
+        log(LocalDateTime.now().toString(), level, message);
+    }
+
+    @Override
+    public synchronized void log(String timestamp, String level, String message) {
+        writer.println(timestamp + " [" + level + "] " + message);
+    }
+
+    // 줄마다 flush하지 않고 LoggerFactory가 비동기 묶음의 끝과 주기적 커밋에서 호출할 때만 내보냄
+    @Override
+    public synchronized void flush() {
         writer.flush();
     }
+
+    @Override
+    public synchronized void close() {
+        writer.close();
+    }
 }
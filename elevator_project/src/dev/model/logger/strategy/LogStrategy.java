@@ -2,4 +2,25 @@ package dev.model.logger.strategy;
 
 public interface LogStrategy {
     void log(String level, String message);
+
+    /**
+     * LoggerFactory가 만든 타임스탬프와 함께 기록합니다.
+     * 기본 구현은 타임스탬프를 무시하고 log(level, message)를 호출합니다.
+     */
+    default void log(String timestamp, String level, String message) {
+        log(level, message);
+    }
+
+    /**
+     * 버퍼에 모아 둔 내용을 내보냅니다. LoggerFactory가 로그 묶음마다 호출합니다.
+     */
+    default void flush() {
+    }
+
+    /**
+     * 남은 내용을 모두 내보내고 자원을 해제합니다.
+     */
+    default void close() {
+        flush();
+    }
 }
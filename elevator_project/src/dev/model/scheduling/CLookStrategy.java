@@ -0,0 +1,54 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.Direction;
+import dev.model.FloorRequestSet;
+
+/**
+ * C-LOOK: 승객은 올라가는 스윕에서만 태우고(방향 무관), 가장 높은 요청을 처리하면
+ * 중간에 태우지 않고 가장 낮은 요청 층으로 돌아가 다음 스윕을 시작합니다.
+ * 내려가는 목적지의 승객은 탑승한 채 복귀 구간에서 내립니다.
+ * 층마다 대기 시간 편차를 줄이는 대신 평균 탑승 시간이 늘어납니다.
+ */
+public class CLookStrategy implements SchedulingStrategy {
+
+    @Override
+    public String getName() {
+        return "C-LOOK";
+    }
+
+    @Override
+    public int nextTarget(DefaultElevator elevator) {
+        int floor = elevator.getCurrentFloor();
+        return switch (elevator.getCurrentDirection()) {
+            case UP -> sweepTarget(elevator, floor);
+            case DOWN -> returnTarget(elevator, floor);
+            case IDLE -> elevator.nearestRequest(floor);
+        };
+    }
+
+    // 올라가는 스윕의 다음 목표
+    protected int sweepTarget(DefaultElevator elevator, int floor) {
+        return elevator.nextRequestAbove(floor);
+    }
+
+    // 복귀 구간의 목표: 가장 낮은 요청 층
+    protected int returnTarget(DefaultElevator elevator, int floor) {
+        int lowest = elevator.nextRequestAbove(elevator.getMinFloor() - 1);
+        return (lowest != FloorRequestSet.NONE && lowest < floor) ? lowest : FloorRequestSet.NONE;
+    }
+
+    @Override
+    public Direction nextDirection(DefaultElevator elevator) {
+        if (!elevator.hasRequests()) {
+            return Direction.IDLE;
+        }
+        // 스윕이 끝나면 복귀, 복귀가 끝나면 다시 올라가는 스윕
+        return elevator.getCurrentDirection() == Direction.UP ? Direction.DOWN : Direction.UP;
+    }
+
+    @Override
+    public Direction boardingDirection(DefaultElevator elevator) {
+        return elevator.getCurrentDirection() == Direction.DOWN ? null : Direction.IDLE;
+    }
+}
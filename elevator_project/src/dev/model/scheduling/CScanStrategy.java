@@ -0,0 +1,29 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.FloorRequestSet;
+
+/**
+ * C-SCAN: C-LOOK과 같지만 올라가는 스윕은 최고층까지, 복귀는 최저층까지 갑니다.
+ */
+public class CScanStrategy extends CLookStrategy {
+
+    @Override
+    public String getName() {
+        return "C-SCAN";
+    }
+
+    @Override
+    protected int sweepTarget(DefaultElevator elevator, int floor) {
+        int above = elevator.nextRequestAbove(floor);
+        if (above != FloorRequestSet.NONE) {
+            return above;
+        }
+        return (elevator.hasRequests() && floor < elevator.getMaxFloor()) ? elevator.getMaxFloor() : FloorRequestSet.NONE;
+    }
+
+    @Override
+    protected int returnTarget(DefaultElevator elevator, int floor) {
+        return (elevator.hasRequests() && floor > elevator.getMinFloor()) ? elevator.getMinFloor() : FloorRequestSet.NONE;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.Direction;
+import dev.model.FloorRequestSet;
+
+/**
+ * LOOK: 진행 방향의 요청을 모두 처리하면 끝층까지 가지 않고 바로 방향을 바꿉니다.
+ * 기존 ElevatorService의 기본 동작이며, 정지 상태에서는 가장 가까운 요청 층으로 출발합니다.
+ */
+public class LookStrategy implements SchedulingStrategy {
+
+    @Override
+    public String getName() {
+        return "LOOK";
+    }
+
+    @Override
+    public int nextTarget(DefaultElevator elevator) {
+        int floor = elevator.getCurrentFloor();
+        return switch (elevator.getCurrentDirection()) {
+            case UP -> elevator.nextRequestAbove(floor);
+            case DOWN -> elevator.nextRequestBelow(floor);
+            case IDLE -> elevator.nearestRequest(floor);
+        };
+    }
+
+    @Override
+    public Direction nextDirection(DefaultElevator elevator) {
+        int floor = elevator.getCurrentFloor();
+        return switch (elevator.getCurrentDirection()) {
+            case UP -> elevator.nextRequestBelow(floor) != FloorRequestSet.NONE ? Direction.DOWN : Direction.IDLE;
+            case DOWN -> elevator.nextRequestAbove(floor) != FloorRequestSet.NONE ? Direction.UP : Direction.IDLE;
+            case IDLE -> Direction.IDLE;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.FloorRequestSet;
+
+/**
+ * SCAN: 처리할 요청이 남아 있으면 진행 방향의 끝층까지 간 뒤 방향을 바꿉니다.
+ * 방향 전환 규칙은 LOOK과 같고, 스윕을 끝층까지 늘린다는 점만 다릅니다.
+ */
+public class ScanStrategy extends LookStrategy {
+
+    @Override
+    public String getName() {
+        return "SCAN";
+    }
+
+    @Override
+    public int nextTarget(DefaultElevator elevator) {
+        int target = super.nextTarget(elevator);
+        if (target != FloorRequestSet.NONE || !elevator.hasRequests()) {
+            return target;
+        }
+        int floor = elevator.getCurrentFloor();
+        return switch (elevator.getCurrentDirection()) {
+            case UP -> floor < elevator.getMaxFloor() ? elevator.getMaxFloor() : FloorRequestSet.NONE;
+            case DOWN -> floor > elevator.getMinFloor() ? elevator.getMinFloor() : FloorRequestSet.NONE;
+            case IDLE -> FloorRequestSet.NONE;
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.Direction;
+
+/**
+ * 차량 한 대의 운행 순서를 정하는 스케줄링 전략
+ * ElevatorService는 매 이동 단계마다 nextTarget으로 한 층 이동할 방향을 정하고,
+ * 갈 곳이 없으면 nextDirection으로 방향 전환/정지를 결정합니다.
+ * 전략은 상태를 갖지 않으며 엘리베이터를 읽기만 합니다. (현재 방향이 곧 스윕 상태)
+ */
+public interface SchedulingStrategy {
+
+    /**
+     * 전략 이름 (로그/보고서 표시용)
+     */
+    String getName();
+
+    /**
+     * 현재 방향으로 계속 진행할 목표 층을 반환합니다.
+     * 정지(IDLE) 상태면 출발할 목표 층을 반환합니다.
+     * @return 목표 층, 이 방향에 더 갈 곳이 없으면 FloorRequestSet.NONE
+     */
+    int nextTarget(DefaultElevator elevator);
+
+    /**
+     * nextTarget이 NONE일 때 바꿀 방향을 반환합니다. IDLE이면 정지합니다.
+     */
+    Direction nextDirection(DefaultElevator elevator);
+
+    /**
+     * 현재 층에서 태울 승객의 이동 방향을 반환합니다.
+     * IDLE이면 방향에 관계없이 요청 순서대로 태우고, null이면 이번 단계에서는 태우지 않습니다.
+     */
+    default Direction boardingDirection(DefaultElevator elevator) {
+        return elevator.getCurrentDirection();
+    }
+
+    /**
+     * 이름으로 전략을 생성합니다. (look, scan, c-scan, c-look, sstf, 대소문자 무시)
+     */
+    static SchedulingStrategy of(String name) {
+        return switch (name.toLowerCase()) {
+            case "look" -> new LookStrategy();
+            case "scan" -> new ScanStrategy();
+            case "c-scan", "cscan" -> new CScanStrategy();
+            case "c-look", "clook" -> new CLookStrategy();
+            case "sstf" -> new SstfStrategy();
+            default -> throw new IllegalArgumentException("알 수 없는 스케줄링 전략: " + name);
+        };
+    }
+}
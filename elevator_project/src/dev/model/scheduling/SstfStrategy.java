@@ -0,0 +1,48 @@
+package dev.model.scheduling;
+
+import dev.model.DefaultElevator;
+import dev.model.Direction;
+import dev.model.FloorRequestSet;
+import dev.model.Passenger;
+
+/**
+ * SSTF (Shortest Seek Time First): 방향과 관계없이 항상 가장 가까운 요청 층으로 갑니다.
+ * 평균 이동 거리는 짧지만 먼 층의 요청이 오래 밀릴 수 있습니다.
+ * 스윕 방향이 없으므로 정차한 층의 승객은 방향과 관계없이 태웁니다.
+ * 만차일 때는 태울 수 없는 호출 층 사이를 오가지 않도록 탑승객의 목적지만 고려합니다.
+ */
+public class SstfStrategy implements SchedulingStrategy {
+
+    @Override
+    public String getName() {
+        return "SSTF";
+    }
+
+    @Override
+    public int nextTarget(DefaultElevator elevator) {
+        int floor = elevator.getCurrentFloor();
+        if (!elevator.isFull()) {
+            return elevator.nearestRequest(floor);
+        }
+        int nearest = FloorRequestSet.NONE;
+        for (Passenger passenger : elevator.getCurrentPassengers()) {
+            int destination = passenger.getDestinationFloor();
+            int distance = Math.abs(destination - floor);
+            if (nearest == FloorRequestSet.NONE || distance < Math.abs(nearest - floor)
+                    || (distance == Math.abs(nearest - floor) && destination < nearest)) {
+                nearest = destination;
+            }
+        }
+        return nearest;
+    }
+
+    @Override
+    public Direction nextDirection(DefaultElevator elevator) {
+        return Direction.IDLE; // nextTarget이 NONE이면 요청이 하나도 없음
+    }
+
+    @Override
+    public Direction boardingDirection(DefaultElevator elevator) {
+        return Direction.IDLE;
+    }
+}
@@ -0,0 +1,180 @@
+package dev.model.stats;
+
+import dev.model.clock.SimulationClock;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 고정 메모리 지연 시간 히스토그램 (HDR 방식의 로그-선형 버킷)
+ * 값을 마이크로초 단위로 2의 거듭제곱 구간마다 64개 버킷에 나눠 세므로,
+ * 기록 수와 관계없이 메모리가 일정하고 백분위 값의 상대 오차는 1/64 이하입니다.
+ * 개수, 합계(평균), 최댓값은 버킷과 별도로 정확하게 보관합니다.
+ */
+public final class LatencyHistogram {
+    private static final long UNIT_NANOS = 1_000;             // 버킷 해상도 1마이크로초
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;  // 0~127은 1단위 그대로
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_MAGNITUDE = 40;              // 2^40마이크로초(약 12일) 이상은 마지막 버킷
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+    // writeTo가 쓰는 최대 바이트 수 (모든 버킷이 차 있을 때)
+    public static final int MAX_ENCODED_BYTES = 3 * Long.BYTES + Integer.BYTES + BUCKET_COUNT * (Short.BYTES + Long.BYTES);
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sumNanos;
+    private long maxNanos;
+
+    /**
+     * 지연 시간 하나를 기록합니다. 음수는 0으로 기록합니다.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[indexOf(value / UNIT_NANOS)]++;
+        totalCount++;
+        sumNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * 다른 히스토그램의 기록을 모두 더합니다. (차량별 통계를 그룹 통계로 합칠 때)
+     */
+    public void add(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherTotal, otherSum, otherMax;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherTotal = other.totalCount;
+            otherSum = other.sumNanos;
+            otherMax = other.maxNanos;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += otherCounts[i];
+            }
+            totalCount += otherTotal;
+            sumNanos += otherSum;
+            maxNanos = Math.max(maxNanos, otherMax);
+        }
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * 개수, 합계, 최댓값과 비어 있지 않은 버킷만 기록합니다. (체크포인트 저장용)
+     */
+    public synchronized void writeTo(ByteBuffer out) {
+        out.putLong(totalCount).putLong(sumNanos).putLong(maxNanos);
+        int usedAt = out.position();
+        out.putInt(0);
+        int used = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                out.putShort((short) i).putLong(counts[i]);
+                used++;
+            }
+        }
+        out.putInt(usedAt, used);
+    }
+
+    /**
+     * writeTo로 기록한 내용으로 이 히스토그램을 바꿉니다.
+     * @throws IllegalArgumentException 버킷 번호가 범위를 벗어날 때
+     */
+    public synchronized void readFrom(ByteBuffer in) {
+        long total = in.getLong();
+        long sum = in.getLong();
+        long max = in.getLong();
+        int used = in.getInt();
+        long[] restored = new long[BUCKET_COUNT];
+        for (int i = 0; i < used; i++) {
+            int index = Short.toUnsignedInt(in.getShort());
+            if (index >= BUCKET_COUNT) {
+                throw new IllegalArgumentException("잘못된 히스토그램 버킷: " + index);
+            }
+            restored[index] = in.getLong();
+        }
+        System.arraycopy(restored, 0, counts, 0, BUCKET_COUNT);
+        totalCount = total;
+        sumNanos = sum;
+        maxNanos = max;
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public synchronized long getMeanNanos() {
+        return totalCount == 0 ? 0 : sumNanos / totalCount;
+    }
+
+    /**
+     * 기록의 percentile%가 이 값 이하가 되는 지연 시간을 반환합니다. (버킷 상한, 최댓값을 넘지 않음)
+     * @param percentile 0~100
+     * @return 나노초, 기록이 없으면 0
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("백분위는 0~100 사이여야 합니다: " + percentile);
+        }
+        if (totalCount == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i) * UNIT_NANOS + (UNIT_NANOS - 1), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * "평균 1.250초, p50 1.000초, p90 2.000초, p99 3.500초, 최대 4.000초" 형식으로 덧붙입니다.
+     */
+    public synchronized StringBuilder appendTo(StringBuilder sb) {
+        SimulationClock.appendSeconds(sb.append("평균 "), getMeanNanos()).append("초, p50 ");
+        SimulationClock.appendSeconds(sb, getPercentileNanos(50)).append("초, p90 ");
+        SimulationClock.appendSeconds(sb, getPercentileNanos(90)).append("초, p99 ");
+        SimulationClock.appendSeconds(sb, getPercentileNanos(99)).append("초, 최대 ");
+        return SimulationClock.appendSeconds(sb, maxNanos).append('초');
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(96)).toString();
+    }
+
+    // 2^k 구간(k >= 7)은 상위 7비트로 64개 버킷 중 하나를 고름
+    private static int indexOf(long units) {
+        if (units < SUB_BUCKET_COUNT) {
+            return (int) units;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(units);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = magnitude - (SUB_BUCKET_BITS - 1);
+        int sub = (int) (units >>> shift) - SUB_BUCKET_HALF;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + sub;
+    }
+
+    // 버킷에 들어가는 가장 큰 값 (단위 수)
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long sub = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((sub + 1) << shift) - 1;
+    }
+}
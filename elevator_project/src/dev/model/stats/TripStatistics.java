@@ -0,0 +1,73 @@
+package dev.model.stats;
+
+import dev.model.Passenger;
+import java.nio.ByteBuffer;
+
+/**
+ * 하차한 승객의 대기/탑승/총 소요 시간 분포
+ * 승객이 내릴 때마다 히스토그램에 누적하므로, 통계를 위해 완료 승객 목록 전체를 들고 있을 필요가 없습니다.
+ */
+public final class TripStatistics {
+    // writeTo가 쓰는 최대 바이트 수
+    public static final int MAX_ENCODED_BYTES = 3 * LatencyHistogram.MAX_ENCODED_BYTES;
+
+    private final LatencyHistogram waiting = new LatencyHistogram();
+    private final LatencyHistogram riding = new LatencyHistogram();
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    /**
+     * 하차한 승객 한 명의 시간을 기록합니다.
+     */
+    public void record(Passenger passenger) {
+        waiting.record(passenger.getWaitingNanos());
+        riding.record(passenger.getRidingNanos());
+        total.record(passenger.getTotalNanos());
+    }
+
+    /**
+     * 시간만 알고 있는 이동 한 건을 기록합니다. (저장된 이동 기록을 다시 읽을 때)
+     */
+    public void record(long waitingNanos, long ridingNanos, long totalNanos) {
+        waiting.record(waitingNanos);
+        riding.record(ridingNanos);
+        total.record(totalNanos);
+    }
+
+    /**
+     * 다른 통계를 더합니다.
+     */
+    public void add(TripStatistics other) {
+        waiting.add(other.waiting);
+        riding.add(other.riding);
+        total.add(other.total);
+    }
+
+    /**
+     * 세 분포를 차례로 기록합니다. (체크포인트 저장용)
+     */
+    public void writeTo(ByteBuffer out) {
+        waiting.writeTo(out);
+        riding.writeTo(out);
+        total.writeTo(out);
+    }
+
+    /**
+     * writeTo로 기록한 분포로 바꿉니다.
+     */
+    public void readFrom(ByteBuffer in) {
+        waiting.readFrom(in);
+        riding.readFrom(in);
+        total.readFrom(in);
+    }
+
+    public void reset() {
+        waiting.reset();
+        riding.reset();
+        total.reset();
+    }
+
+    public long getCompletedCount() { return total.getCount(); }
+    public LatencyHistogram getWaiting() { return waiting; }
+    public LatencyHistogram getRiding() { return riding; }
+    public LatencyHistogram getTotal() { return total; }
+}
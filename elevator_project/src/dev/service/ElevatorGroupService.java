@@ -0,0 +1,312 @@
+package dev.service;
+
+import dev.model.Elevator;
+import dev.model.ElevatorSnapshot;
+import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import dev.model.clock.SystemClock;
+import dev.model.stats.TripStatistics;
+import dev.service.sink.CompletedTripSink;
+import dev.model.scheduling.SchedulingStrategy;
+import dev.service.checkpoint.SimulationCheckpoint;
+import dev.service.dispatch.DispatchPolicy;
+import dev.service.dispatch.EtaDispatchPolicy;
+import dev.service.trace.TraceRecorder;
+import dev.controller.logger.LoggerFactory;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 대의 엘리베이터(뱅크)를 운영하는 그룹 배차 서비스
+ * 차량마다 독립된 ElevatorService(자체 모니터와 스케줄링 상태)를 두고,
+ * 홀 호출이 들어오면 배차 정책(DispatchPolicy)이 고른 한 대에만 배정합니다.
+ */
+public class ElevatorGroupService {
+    // 모든 차량이 상태 복사를 마치기를 기다리는 최대 시간 (한 단계는 TICK_MILLIS 안에 끝남)
+    private static final int CHECKPOINT_TIMEOUT_SECONDS = 5;
+
+    private final List<ElevatorService> cars;
+    private final List<Elevator> elevators;
+    private final int minFloor;
+    private final int maxFloor;
+    private final LoggerFactory loggerFactory;
+    private final AtomicInteger passengerIds = new AtomicInteger(1); // 그룹 안에서만 유일한 승객 번호
+    private volatile DispatchPolicy dispatchPolicy = new EtaDispatchPolicy();
+    private volatile TraceRecorder traceRecorder;
+    private volatile SimulationClock clock = SystemClock.INSTANCE; // 시작/중지 기록 시각용
+
+    public ElevatorGroupService(int minFloor, int maxFloor, int capacity, int carCount, LoggerFactory loggerFactory) {
+        if (carCount < 1) {
+            throw new IllegalArgumentException("차량 수는 1 이상이어야 합니다: " + carCount);
+        }
+        this.minFloor = minFloor;
+        this.maxFloor = maxFloor;
+        this.loggerFactory = loggerFactory;
+
+        List<ElevatorService> carList = new ArrayList<>(carCount);
+        List<Elevator> elevatorList = new ArrayList<>(carCount);
+        for (int i = 1; i <= carCount; i++) {
+            Elevator elevator = new Elevator(String.format("ELV-%02d", i), minFloor, maxFloor, capacity);
+            ElevatorService car = new ElevatorService(elevator, loggerFactory);
+            car.setIdSequence(passengerIds);
+            car.setCarIndex(i - 1);
+            carList.add(car);
+            elevatorList.add(elevator);
+        }
+        this.cars = Collections.unmodifiableList(carList);
+        this.elevators = Collections.unmodifiableList(elevatorList);
+    }
+
+    public void setThreadStatusListener(ElevatorService.ThreadStatusListener listener) {
+        cars.forEach(car -> car.setThreadStatusListener(listener));
+    }
+
+    public void setElevatorStateListener(ElevatorService.ElevatorStateListener listener) {
+        cars.forEach(car -> car.setElevatorStateListener(listener));
+    }
+
+    /**
+     * 모든 차량의 승객 시각 기록과 로그 타임스탬프에 사용할 시계를 설정합니다.
+     */
+    public void setClock(SimulationClock clock) {
+        this.clock = clock;
+        cars.forEach(car -> car.setClock(clock));
+        loggerFactory.setClock(clock);
+    }
+
+    public void startSimulation() {
+        loggerFactory.log("=== 그룹 배차 시작 (" + cars.size() + "대) ===");
+        TraceRecorder recorder = traceRecorder;
+        if (recorder != null) recorder.onStart(clock.nanoTime());
+        cars.forEach(ElevatorService::startSimulation);
+    }
+
+    public void stopSimulation() {
+        cars.forEach(ElevatorService::stopSimulation);
+        TraceRecorder recorder = traceRecorder;
+        if (recorder != null) {
+            recorder.onStop(clock.nanoTime());
+            recorder.flush();
+        }
+        if (cars.size() > 1) {
+            printStatistics();
+        }
+    }
+
+    /**
+     * 모든 차량을 현재 단계가 끝난 뒤 멈춥니다. 멈춘 동안 들어온 호출은 배정만 되고 재개 후 운행합니다.
+     */
+    public void pauseSimulation() {
+        cars.forEach(ElevatorService::pauseSimulation);
+    }
+
+    public void resumeSimulation() {
+        cars.forEach(ElevatorService::resumeSimulation);
+    }
+
+    /**
+     * 모든 차량을 중지하고 처음 상태로 되돌립니다. 승객 번호도 1부터 다시 발급합니다.
+     */
+    public void resetSimulation() {
+        cars.forEach(ElevatorService::resetSimulation);
+        passengerIds.set(1);
+    }
+
+    /**
+     * 처음 상태에서 다시 시작합니다. 차량 스레드는 공유 풀에서 재사용합니다.
+     */
+    public void restartSimulation() {
+        resetSimulation();
+        startSimulation();
+    }
+
+    /**
+     * 호출 배정 정책을 설정합니다. (기본값 ETA + 부하 비용)
+     */
+    public void setDispatchPolicy(DispatchPolicy dispatchPolicy) {
+        this.dispatchPolicy = dispatchPolicy;
+    }
+
+    public DispatchPolicy getDispatchPolicy() {
+        return dispatchPolicy;
+    }
+
+    /**
+     * 모든 차량이 하차 승객을 넘길 싱크를 설정합니다. 한 싱크를 모든 차량이 공유합니다.
+     * 싱크를 닫는 것은 설정한 쪽의 책임입니다.
+     */
+    public void setCompletedTripSink(CompletedTripSink completedTripSink) {
+        cars.forEach(car -> car.setCompletedTripSink(completedTripSink));
+    }
+
+    /**
+     * 모든 차량의 입력(요청 반영)과 결정(하차/탑승, 이동)을 기록할 대상을 설정합니다. (null이면 기록 중지)
+     * 기록 대상을 닫는 것은 설정한 쪽의 책임입니다.
+     */
+    public void setTraceRecorder(TraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+        cars.forEach(car -> car.setTraceRecorder(traceRecorder));
+    }
+
+    /**
+     * 모든 차량의 현재 상태를 저장합니다. 실행 중에도 호출할 수 있으며, 차량마다 자기 소유 스레드에서 한 시점을 복사합니다.
+     * 파일로 남기려면 CheckpointFile.write를 사용합니다.
+     * @throws IllegalStateException 제한 시간 안에 복사하지 못한 차량이 있을 때
+     */
+    public SimulationCheckpoint checkpoint() {
+        List<CompletableFuture<SimulationCheckpoint.CarState>> pending = new ArrayList<>(cars.size());
+        cars.forEach(car -> pending.add(car.captureState())); // 모든 차량에 먼저 요청해 같은 단계 안에서 복사되게 함
+        List<SimulationCheckpoint.CarState> states = new ArrayList<>(cars.size());
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CHECKPOINT_TIMEOUT_SECONDS);
+            for (CompletableFuture<SimulationCheckpoint.CarState> state : pending) {
+                states.add(state.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) { // 제어 루프가 멈춰 명령을 처리하지 못함
+            throw new IllegalStateException("체크포인트 저장 시간이 초과되었습니다. (" + CHECKPOINT_TIMEOUT_SECONDS + "초)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("체크포인트 저장이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("체크포인트 저장 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+        return new SimulationCheckpoint(minFloor, maxFloor, elevators.get(0).getCapacity(), dispatchPolicy.getName(),
+            clock.nanoTime(), passengerIds.get(), List.copyOf(states));
+    }
+
+    /**
+     * 저장한 상태로 모든 차량을 되돌립니다. 중지된 상태에서만 사용할 수 있고, 다시 시작하면 이어서 운행합니다.
+     * 승객 시각은 현재 시계 기준으로 옮기므로 중단되어 있던 시간은 대기/탑승 시간에 들어가지 않습니다.
+     */
+    public void restore(SimulationCheckpoint checkpoint) {
+        if (isRunning()) {
+            throw new IllegalStateException("실행 중에는 체크포인트를 복원할 수 없습니다.");
+        }
+        int capacity = elevators.get(0).getCapacity();
+        if (checkpoint.minFloor() != minFloor || checkpoint.maxFloor() != maxFloor
+            || checkpoint.capacity() != capacity || checkpoint.cars().size() != cars.size()) {
+            throw new IllegalArgumentException("체크포인트 구성(" + checkpoint.minFloor() + "~" + checkpoint.maxFloor()
+                + "층, 정원 " + checkpoint.capacity() + ", " + checkpoint.cars().size() + "대)이 현재 구성("
+                + minFloor + "~" + maxFloor + "층, 정원 " + capacity + ", " + cars.size() + "대)과 다릅니다.");
+        }
+        DispatchPolicy policy = DispatchPolicy.of(checkpoint.dispatch());
+        long shiftNanos = clock.nanoTime() - checkpoint.clockNanos();
+        for (int i = 0; i < cars.size(); i++) {
+            cars.get(i).restoreState(checkpoint.cars().get(i), shiftNanos);
+        }
+        dispatchPolicy = policy;
+        passengerIds.set(checkpoint.nextPassengerId());
+        int waiting = 0;
+        for (SimulationCheckpoint.CarState state : checkpoint.cars()) {
+            waiting += state.waiting().size();
+        }
+        loggerFactory.log("체크포인트 복원: 차량 " + cars.size() + "대, 대기 승객 " + waiting + "명");
+    }
+
+    /**
+     * 모든 차량의 스케줄링 전략을 설정합니다. 전략은 상태가 없으므로 한 인스턴스를 공유합니다.
+     */
+    public void setSchedulingStrategy(SchedulingStrategy schedulingStrategy) {
+        cars.forEach(car -> car.setSchedulingStrategy(schedulingStrategy));
+    }
+
+    /**
+     * 홀 호출을 배차 정책이 고른 차량 한 대에 배정합니다.
+     * 정책은 각 차량이 게시한 상태만 읽으므로 차량 모니터를 잡지 않습니다.
+     * @return 호출을 배정받은 차량
+     */
+    public ElevatorService addPassengerRequest(int startFloor, int destinationFloor) {
+        ElevatorService car = (cars.size() == 1) ? cars.get(0)
+            : dispatchPolicy.selectCar(this, startFloor, destinationFloor);
+        if (cars.size() > 1) {
+            loggerFactory.info("호출 배정: {}층 -> {}", startFloor, car.getElevator().getId());
+        }
+        car.addPassengerRequest(startFloor, destinationFloor);
+        return car;
+    }
+
+    public void printStatistics() {
+        if (isRunning()) return;
+        TripStatistics statistics = getTripStatistics();
+        loggerFactory.log("\n=== 그룹 실행 통계 ===");
+        loggerFactory.log("운행 차량 수: " + cars.size());
+        loggerFactory.log("완료된 승객 수: " + statistics.getCompletedCount());
+        ElevatorService.logTripStatistics(loggerFactory, statistics);
+    }
+
+    // ========== 조회 ==========
+
+    public List<ElevatorService> getCars() { return cars; }
+    public List<Elevator> getElevators() { return elevators; }
+    public int getCarCount() { return cars.size(); }
+    public int getMinFloor() { return minFloor; }
+    public int getMaxFloor() { return maxFloor; }
+
+    public boolean isRunning() {
+        for (ElevatorService car : cars) {
+            if (car.isRunning()) return true;
+        }
+        return false;
+    }
+
+    public boolean isPaused() {
+        for (ElevatorService car : cars) {
+            if (car.isPaused()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 모든 차량이 승객을 태우거나 내리기 위해 정차한 횟수의 합
+     */
+    public int getStopCount() {
+        int stops = 0;
+        for (ElevatorService car : cars) {
+            stops += car.getStopCount();
+        }
+        return stops;
+    }
+
+    /**
+     * 모든 차량의 마지막 게시 상태 (차량 순서)
+     */
+    public List<ElevatorSnapshot> getSnapshots() {
+        List<ElevatorSnapshot> snapshots = new ArrayList<>(cars.size());
+        cars.forEach(car -> snapshots.add(car.getSnapshot()));
+        return snapshots;
+    }
+
+    /**
+     * 싱크가 보관 중인 최근 완료 승객. 여러 차량이 공유하는 싱크는 한 번만 읽습니다.
+     */
+    public List<Passenger> getCompletedPassengers() {
+        List<Passenger> completed = new ArrayList<>();
+        Set<CompletedTripSink> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ElevatorService car : cars) {
+            if (seen.add(car.getCompletedTripSink())) {
+                completed.addAll(car.getCompletedPassengers());
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * 모든 차량의 시간 분포를 합친 통계 (호출할 때마다 새로 합산)
+     */
+    public TripStatistics getTripStatistics() {
+        TripStatistics merged = new TripStatistics();
+        cars.forEach(car -> merged.add(car.getTripStatistics()));
+        return merged;
+    }
+
+    public Queue<Passenger> getWaitingPassengers() {
+        Queue<Passenger> waiting = new ConcurrentLinkedQueue<>();
+        cars.forEach(car -> waiting.addAll(car.getWaitingPassengers()));
+        return waiting;
+    }
+}
@@ -2,18 +2,70 @@ package dev.service;
 
 import dev.model.Direction;
 import dev.model.Elevator;
+import dev.model.ElevatorSnapshot;
+import dev.model.FloorRequestSet;
 import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import dev.model.scheduling.SchedulingStrategy;
+import dev.model.stats.TripStatistics;
+import dev.service.checkpoint.SimulationCheckpoint;
+import dev.service.sink.CompletedTripSink;
+import dev.service.trace.TraceRecorder;
 import dev.controller.logger.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * 차량 한 대의 운행 서비스
+ * 차량 상태(Elevator, 대기열 반영, 정차 예정 층)는 소유 스레드 하나만 수정합니다.
+ * 스레드 모드에서는 차량 제어 스레드가, 이산 사건 모드에서는 엔진을 실행하는 스레드가 소유자이며,
+ * 다른 스레드의 요청은 락 없는 명령 큐에 넣어 소유 스레드가 다음 단계 전에 반영합니다.
+ * 조회 메서드는 게시된 값만 읽으므로 제어 루프를 막지 않습니다.
+ */
 public class ElevatorService {
     private final Elevator elevator;
     private final PassengerService passengerService;
     private final LoggerFactory loggerFactory;
     private volatile boolean running;
+    private volatile boolean paused; // 실행 중 일시정지 (요청은 계속 받고 이동/탑승만 멈춤)
+    private volatile boolean stopWhenIdle; // 기본은 시작/일시정지/재개/중지/초기화로만 수명을 제어
     private int totalSteps;
 
+    // 차량 상태를 수정할 수 있는 스레드 (없으면 ownerLock을 잡은 스레드가 직접 반영)
+    private volatile Thread owner;
+    private final Object ownerLock = new Object();
+    // 다른 스레드가 보낸 명령 (승객 요청, 설정 변경), 소유 스레드가 단계마다 꺼내 실행
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingRequests = new AtomicInteger(); // 아직 반영되지 않은 승객 요청 수
+    // 소유 스레드가 할 일이 없어 명령을 기다리며 멈춰 있는지 (명령을 넣은 쪽이 보고 깨움)
+    private volatile boolean parked;
+
+    // GUI, 배차기, 통계가 락 없이 읽는 차량 상태 (상태를 바꿀 때마다 새 스냅샷으로 교체)
+    private volatile ElevatorSnapshot snapshot;
+    private long snapshotVersion;
+    // 바뀌지 않았으면 다음 스냅샷에서 그대로 공유할 부분과 그때의 변경 횟수
+    private FloorRequestSet snapshotRequests;
+    private int snapshotRequestsMod = -1;
+    private int[] snapshotWaiting;
+    // 층별 대기 승객 수 (소유 스레드만 수정, 바뀐 경우에만 스냅샷용으로 복사)
+    private final int[] waitingByFloor;
+    private boolean waitingChanged = true;
+
+    // 배정된 승객의 승차층/하차층별 인원과 그 층 집합 (목적층 배차 비용 계산용, 모니터로 보호)
+    private final int[] plannedStopCounts;
+    private final FloorRequestSet plannedStops;
+    private boolean plannedStopsChanged;
+    // 배차기가 락 없이 읽는 정차 예정 층 스냅샷 (게시 후에는 수정하지 않음)
+    private volatile FloorRequestSet publishedStops;
+    private volatile int stopCount; // 승객이 타거나 내린 정차 횟수 (소유 스레드만 갱신)
+
+    // 그룹 안에서의 차량 번호 (0부터, 추적 기록과 이동 기록에 남김)
+    private int carIndex;
+    // 입력/결정 기록 대상 (없으면 기록하지 않음, 소유 스레드만 읽고 씀)
+    private TraceRecorder traceRecorder;
+
     // 스레드 상태 변화를 GUI에 알리기 위한 리스너 인터페이스
     public interface ThreadStatusListener {
         void onStatusChange(String threadName, String status);
@@ -26,21 +78,58 @@ public class ElevatorService {
     }
     private ElevatorStateListener elevatorStateListener;
 
-    // 여러 스레드가 안전하게 공유하는 요청 큐
-    private final BlockingQueue<Integer> passengerRequests = new LinkedBlockingQueue<>();
-    
-    // 3개의 고정 스레드 풀 (요청, 이동, 상태 감시)
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    // 다른 스레드가 소유 스레드에게 명령을 넣었음을 알리기 위한 리스너 (이산 사건 엔진이 유휴 차량을 깨우는 데 사용)
+    public interface CommandListener {
+        void onCommandQueued(ElevatorService car);
+    }
+    private volatile CommandListener commandListener;
+
+    // 차량 제어 스레드 한 단계(문 열림 → 출발)의 주기
+    public static final long TICK_MILLIS = 500;
+    // 중지/재시작 시 이전 제어 루프가 끝나기를 기다리는 최대 시간
+    private static final int CONTROL_EXIT_TIMEOUT_SECONDS = 5;
+    // 차량 제어 스레드가 한 단계에서 차례로 수행하는 역할 (스레드 상태 표시용)
+    private static final String[] PHASES = {"요청 처리", "상태 감시", "이동 제어"};
     
+    // 모든 차량이 공유하는 제어 스레드 풀: 중지된 차량의 스레드는 풀로 돌아가 다음 시작(다른 시뮬레이션 포함)에 재사용되고,
+    // 한동안 쓰이지 않으면 정리됩니다. 이산 사건 엔진으로만 구동하는 서비스는 스레드를 쓰지 않습니다.
+    private static final ExecutorService CONTROL_THREADS = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "차량-제어-" + count.getAndIncrement());
+            thread.setDaemon(true); // 풀에 남은 스레드가 JVM 종료를 막지 않도록
+            return thread;
+        }
+    });
+    // 이번 실행의 제어 루프를 실행 중인 풀 스레드 (workerLock으로 보호, 풀로 돌아간 스레드를 깨우지 않도록)
+    private final Object workerLock = new Object();
+    private volatile Thread controlWorker;
+    private CountDownLatch controlExited = new CountDownLatch(0); // 제어 루프가 완전히 끝나면 열림
+
     public ElevatorService(int minFloor, int maxFloor, int capacity, LoggerFactory loggerFactory) {
-        this.elevator = new Elevator(minFloor, maxFloor, capacity);
+        this(new Elevator(minFloor, maxFloor, capacity), loggerFactory);
+    }
+
+    /**
+     * 외부에서 생성한 엘리베이터를 구동하는 서비스를 만듭니다.
+     * 그룹 배차(ElevatorGroupService)에서 차량마다 하나씩 생성합니다.
+     */
+    public ElevatorService(Elevator elevator, LoggerFactory loggerFactory) {
+        this.elevator = elevator;
         this.loggerFactory = loggerFactory;
         this.passengerService = new PassengerService(loggerFactory);
+        this.plannedStopCounts = new int[elevator.getMaxFloor() - elevator.getMinFloor() + 1];
+        this.plannedStops = new FloorRequestSet(elevator.getMinFloor(), elevator.getMaxFloor());
+        this.publishedStops = plannedStops.copy();
+        this.waitingByFloor = new int[plannedStopCounts.length];
         this.running = false;
         this.totalSteps = 0;
+        publishState();
     }
 
-    public synchronized LoggerFactory getLoggerFactory() {
+    public LoggerFactory getLoggerFactory() {
         return loggerFactory;
     }
 
@@ -54,45 +143,193 @@ public class ElevatorService {
         this.elevatorStateListener = listener;
     }
 
-    public void startSimulation() {
+    /**
+     * 명령이 큐에 들어왔을 때 호출할 리스너를 설정합니다. (null이면 해제)
+     * 명령을 단계 사이에만 꺼내는 소유 스레드(이산 사건 엔진)가 할 일이 없던 차량을 다시 돌릴 때 사용합니다.
+     */
+    public void setCommandListener(CommandListener listener) {
+        this.commandListener = listener;
+    }
+
+    /**
+     * 승객 시각 기록에 사용할 시계를 설정합니다. (가상 시간 실행 시 VirtualClock)
+     */
+    public void setClock(SimulationClock clock) {
+        passengerService.setClock(clock);
+    }
+
+    /**
+     * 차량의 운행 순서를 정하는 스케줄링 전략을 설정합니다. (기본값 LOOK)
+     */
+    public void setSchedulingStrategy(SchedulingStrategy schedulingStrategy) {
+        execute(() -> elevator.setSchedulingStrategy(schedulingStrategy));
+    }
+
+    /**
+     * 승객 번호 순번을 설정합니다. 그룹 내 차량끼리 공유해 번호가 겹치지 않게 합니다.
+     */
+    public void setIdSequence(AtomicInteger idSequence) {
+        passengerService.setIdSequence(idSequence);
+    }
+
+    /**
+     * 하차한 승객을 넘길 싱크를 설정합니다.
+     */
+    public void setCompletedTripSink(CompletedTripSink completedTripSink) {
+        passengerService.setCompletedTripSink(completedTripSink);
+    }
+
+    // 그룹이 차량을 만들 때 지정
+    void setCarIndex(int carIndex) {
+        this.carIndex = carIndex;
+        passengerService.setCarIndex(carIndex);
+    }
+
+    public int getCarIndex() {
+        return carIndex;
+    }
+
+    /**
+     * 이 차량의 요청 반영/하차·탑승/이동 결과를 기록할 대상을 설정합니다. (null이면 기록 중지)
+     */
+    public void setTraceRecorder(TraceRecorder traceRecorder) {
+        execute(() -> this.traceRecorder = traceRecorder);
+    }
+
+    /**
+     * 요청과 대기 승객이 모두 없을 때 시뮬레이션을 스스로 종료할지 설정합니다.
+     * 기본값 false에서는 할 일이 없으면 다음 요청까지 대기하며, 스스로 끝나야 하는 호출자만 true로 설정합니다.
+     */
+    public void setStopWhenIdle(boolean stopWhenIdle) {
+        this.stopWhenIdle = stopWhenIdle;
+    }
+
+    /**
+     * 풀의 제어 스레드에서 운행을 시작합니다. 중지(또는 자동 종료)된 뒤 다시 호출하면 현재 상태에서 이어서 운행합니다.
+     * @throws IllegalStateException 이전 제어 루프가 끝나지 않아 새 루프를 시작할 수 없을 때
+     */
+    public synchronized void startSimulation() {
         if (running) return;
+        if (!awaitControlExit()) { // 자동 종료된 이전 루프가 소유 스레드 지정을 해제할 때까지
+            throw new IllegalStateException("이전 제어 스레드가 종료되지 않아 시작할 수 없습니다: " + elevator.getId());
+        }
         running = true;
-        loggerFactory.log("=== SCAN 엘레베이터 알고리즘 시작 ===");
-        loggerFactory.log("초기 상태: " + elevator);
+        paused = false;
+        loggerFactory.log("=== " + elevator.getSchedulingStrategy().getName() + " 엘레베이터 알고리즘 시작 ===");
+        loggerFactory.info("초기 상태: {}", elevator);
 
-        // ExecutorService에 각 역할을 담당하는 스레드 작업 제출
-        executorService.submit(this::requestProcessorThread);
-        executorService.submit(this::movementControlThread);
-        executorService.submit(this::statusMonitorThread);
+        controlExited = new CountDownLatch(1);
+        CONTROL_THREADS.execute(this::controlThread);
     }
     
     public synchronized void stopSimulation() {
         if (!running) return;
         running = false;
+        paused = false;
         
         // 스레드 상태를 '종료'로 업데이트
-        if (threadStatusListener != null) {
-            threadStatusListener.onStatusChange("요청 처리", "종료");
-            threadStatusListener.onStatusChange("이동 제어", "종료");
-            threadStatusListener.onStatusChange("상태 감시", "종료");
+        notifyThreadStatus("종료");
+
+        interruptWorker(); // 잠자거나 멈춰 있는 제어 루프를 깨워 바로 종료
+        if (!awaitControlExit()) {
+            loggerFactory.log("경고: 제어 스레드가 " + CONTROL_EXIT_TIMEOUT_SECONDS + "초 내에 종료되지 않았습니다.");
         }
+        loggerFactory.log("=== 알고리즘 완료 ===");
+        printStatistics();
+    }
 
-        executorService.shutdownNow(); // 모든 스레드 즉시 종료
+    /**
+     * 현재 단계를 마친 뒤 운행을 멈춥니다. 멈춘 동안에도 요청과 체크포인트는 반영됩니다.
+     */
+    public synchronized void pauseSimulation() {
+        if (!running || paused) return;
+        paused = true;
+        LockSupport.unpark(controlWorker); // 할 일이 없어 멈춰 있던 루프도 일시정지 상태로 옮김
+        loggerFactory.log("=== 일시정지 ===");
+    }
+
+    /**
+     * 일시정지한 운행을 이어서 진행합니다.
+     */
+    public synchronized void resumeSimulation() {
+        if (!paused) return;
+        paused = false;
+        LockSupport.unpark(controlWorker);
+        loggerFactory.log("=== 재개 ===");
+    }
+
+    /**
+     * 운행을 중지하고 차량과 대기열, 통계를 처음 상태(최저층, 정지, 요청 없음)로 되돌립니다.
+     * 스케줄링 전략, 싱크, 리스너 같은 설정은 유지합니다.
+     * @throws IllegalStateException 제어 루프가 끝나지 않아 상태를 되돌릴 수 없을 때 (운행은 중지된 상태로 남음)
+     */
+    public synchronized void resetSimulation() {
+        if (running) {
+            running = false;
+            paused = false;
+            interruptWorker();
+        }
+        if (!awaitControlExit()) {
+            throw new IllegalStateException("제어 스레드가 종료되지 않아 초기화할 수 없습니다: " + elevator.getId());
+        }
+        // 명령 큐는 비우지 않음: 먼저 들어온 명령(요청 포함)은 이미 반영되어 아래에서 함께 지워지고,
+        // 뒤에 들어온 명령(설정 변경, 상태 복사)은 초기화된 상태에 이어서 반영됨
+        execute(() -> {
+            elevator.reset();
+            passengerService.restore(List.of(), new TripStatistics());
+            Arrays.fill(waitingByFloor, 0);
+            Arrays.fill(plannedStopCounts, 0);
+            plannedStops.clear();
+            waitingChanged = true;
+            plannedStopsChanged = true;
+            totalSteps = 0;
+            stopCount = 0;
+            publishState();
+        });
+        notifyThreadStatus("종료");
+        if (elevatorStateListener != null) {
+            elevatorStateListener.onElevatorStateUpdated();
+        }
+        loggerFactory.log("=== 초기화 ===");
+    }
+
+    /**
+     * 처음 상태로 되돌린 뒤 다시 시작합니다. (같은 JVM에서 연속 실행)
+     */
+    public synchronized void restartSimulation() {
+        resetSimulation();
+        startSimulation();
+    }
+
+    private void interruptWorker() {
+        synchronized (workerLock) {
+            if (controlWorker != null) controlWorker.interrupt();
+        }
+    }
+
+    // 제어 루프가 끝날 때까지 최대 CONTROL_EXIT_TIMEOUT_SECONDS초 기다림
+    // 리스너 등이 인터럽트를 삼켰을 수 있으므로 중지된 루프가 1초마다 남아 있으면 다시 인터럽트함
+    // @return 루프가 끝났으면 true
+    private boolean awaitControlExit() {
         try {
-            if (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
-                loggerFactory.log("경고: 스레드가 1초 내에 종료되지 않았습니다.");
+            for (int i = 0; i < CONTROL_EXIT_TIMEOUT_SECONDS; i++) {
+                if (controlExited.await(1, TimeUnit.SECONDS)) {
+                    return true;
+                }
+                if (!running) interruptWorker();
             }
+            return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            return controlExited.getCount() == 0;
         }
-        loggerFactory.log("=== 알고리즘 완료 ===");
-        printStatistics();
     }
 
     /**
-     * 외부에서 들어오는 승객 요청을 받아서 큐에 추가
+     * 외부에서 들어오는 승객 요청을 받아 차량에 배정합니다.
+     * 승객(요청 시각)은 호출한 스레드에서 만들고, 대기열/요청 반영은 소유 스레드가 수행합니다.
      */
-    public synchronized void addPassengerRequest(int startFloor, int destinationFloor) {
+    public void addPassengerRequest(int startFloor, int destinationFloor) {
         if (startFloor == destinationFloor) {
             loggerFactory.log("경고: 출발층과 도착층이 같습니다. (" + startFloor + ")");
             return;
@@ -103,209 +340,512 @@ public class ElevatorService {
             return;
         }
         
-        passengerService.addPassengerRequest(startFloor, destinationFloor);
-        passengerRequests.add(startFloor);
-        loggerFactory.log("승객 요청 추가: " + startFloor + "층 -> " + destinationFloor + "층");
+        Passenger passenger = passengerService.createPassenger(startFloor, destinationFloor);
+        addPassengerRequest(passenger);
+        loggerFactory.info("승객 요청 추가: {}층 -> {}층", startFloor, destinationFloor);
+    }
+
+    /**
+     * 이미 만든 승객(번호, 요청 시각)을 이 차량에 배정합니다. (추적 재생용, 층 검증 없음)
+     */
+    public void addPassengerRequest(Passenger passenger) {
+        pendingRequests.incrementAndGet();
+        execute(() -> applyRequest(passenger));
         if (elevatorStateListener != null) { // 승객 요청 시 상태 업데이트 알림
             elevatorStateListener.onElevatorStateUpdated();
         }
     }
-    
+
+    // ========== 소유 스레드 ==========
+
+    /**
+     * 현재 스레드를 이 차량의 소유 스레드로 지정합니다. (이산 사건 엔진이 실행 동안 사용)
+     * 지정된 동안 다른 스레드의 요청은 명령 큐를 거쳐 drainRequests에서 반영됩니다.
+     */
+    public void bindOwnerThread() {
+        synchronized (ownerLock) {
+            Thread current = Thread.currentThread();
+            if (owner != null && owner != current) {
+                throw new IllegalStateException("다른 스레드(" + owner.getName() + ")가 구동 중인 차량입니다: " + elevator.getId());
+            }
+            owner = current;
+        }
+    }
+
     /**
-     * 스레드1: 요청 처리 스레드
-     * BlockingQueue에서 승객 요청을 꺼내 엘리베이터에 전달
-     */
-    private void requestProcessorThread() {
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("요청 처리", "실행 중");
-        loggerFactory.log("요청 처리 스레드 시작.");
-        while (running) {
-            try {
-                Integer floor = passengerRequests.poll(100, TimeUnit.MILLISECONDS);
-                if (floor != null) {
-                    synchronized (this) {
-                        elevator.addRequest(floor);
-                    }
-                    loggerFactory.log("요청 처리됨: " + floor + "층");
-                    if (elevatorStateListener != null) { // 엘리베이터 요청 추가 시 상태 업데이트 알림
-                        elevatorStateListener.onElevatorStateUpdated();
-                    }
+     * 소유 스레드 지정을 해제하고 큐에 남은 명령을 반영합니다.
+     */
+    public void unbindOwnerThread() {
+        synchronized (ownerLock) {
+            owner = null;
+            drainRequests();
+        }
+    }
+
+    /**
+     * 소유 스레드에서 명령을 실행합니다.
+     * 소유 스레드면 바로 실행하고, 소유 스레드가 없으면 ownerLock 안에서 바로 실행하며,
+     * 그 밖에는 명령 큐에 넣고, 소유 스레드가 멈춰 기다리는 중이면 깨웁니다. (넣은 직후 소유자가 떠났다면 직접 비움)
+     */
+    private void execute(Runnable command) {
+        Thread current = owner;
+        if (current == Thread.currentThread()) {
+            command.run();
+            return;
+        }
+        if (current == null) {
+            synchronized (ownerLock) {
+                if (owner == null) {
+                    command.run();
+                    return;
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break; // 인터럽트 발생 시 루프 종료
             }
         }
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("요청 처리", "종료");
-        loggerFactory.log("요청 처리 스레드 종료.");
+        commands.offer(command);
+        // offer 후 parked를 읽고, 소유 스레드는 parked 기록 후 큐를 확인하므로 깨움을 놓치지 않음
+        // (처음 읽은 뒤 소유자가 바뀌었을 수 있으므로 지금의 소유자를 다시 읽어 깨움)
+        Thread target = owner;
+        if (parked && target != null) {
+            LockSupport.unpark(target);
+        }
+        CommandListener listener = commandListener;
+        if (listener != null && target != null) {
+            listener.onCommandQueued(this);
+        }
+        if (target == null) {
+            synchronized (ownerLock) {
+                if (owner == null) drainRequests();
+            }
+        }
     }
-    
+
+    // 풀 스레드에서 실행: 차량 이름을 붙여 제어 루프를 돌고, 끝나면 원래 이름으로 풀에 돌려줌
+    private void controlThread() {
+        Thread worker = Thread.currentThread();
+        String poolName = worker.getName();
+        worker.setName(elevator.getId() + "-제어");
+        synchronized (workerLock) {
+            controlWorker = worker;
+        }
+        try {
+            runControlLoop();
+        } finally {
+            synchronized (workerLock) {
+                controlWorker = null;
+                Thread.interrupted(); // 중지 요청으로 받은 인터럽트를 풀로 가져가지 않음
+            }
+            worker.setName(poolName);
+            controlExited.countDown();
+        }
+    }
+
     /**
-     * 스레드2: 이동 제어 스레드
-     * 엘리베이터의 움직임을 제어하는 SCAN 알고리즘 실행
-     */
-    private void movementControlThread() {
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("이동 제어", "실행 중");
-        loggerFactory.log("이동 제어 스레드 시작.");
-        while (running) {
-            try {
-                synchronized (this) {
-                    passengerService.getWaitingPassengerFloors().forEach(elevator::addRequest);
-                    Integer nextFloor = getNextFloorSCAN();
-                    if (nextFloor != null) {
-                        moveOneFloor(nextFloor);
-                    } else {
-                        handleDirectionChange();
-                    }
+     * 차량 제어 스레드: 이 차량의 상태를 수정하는 유일한 스레드
+     * 한 단계마다 명령 큐 반영 → 하차/탑승(상태 감시) → 한 층 이동(이동 제어) 순서로 실행하므로
+     * 이산 사건 엔진(문 열림 → 출발)과 같은 순서로 동작합니다.
+     * 한 단계의 TICK_MILLIS는 문 열림/한 층 이동에 걸리는 시간이며, 할 일이 없으면 폴링하지 않고
+     * 새 명령이 들어올 때까지 멈춰 있다가 바로 다음 단계를 시작합니다.
+     */
+    private void runControlLoop() {
+        try {
+            bindOwnerThread();
+        } catch (IllegalStateException e) { // 이산 사건 엔진이 구동 중인 차량
+            running = false;
+            loggerFactory.log("경고: " + e.getMessage());
+            return;
+        }
+        notifyThreadStatus("실행 중");
+        loggerFactory.log("차량 제어 스레드 시작.");
+        try {
+            while (running) {
+                if (paused) {
+                    awaitResume();
+                    continue;
                 }
-                if (elevatorStateListener != null) { // 엘리베이터 이동 시 상태 업데이트 알림
+                drainRequests();
+                if (!stopWhenIdle && isIdle() && elevator.getDirection() == Direction.IDLE) {
+                    awaitCommand(); // 정지한 채 할 일이 없으면 다음 요청까지 대기
+                    continue;
+                }
+                monitorStep();
+                if (stopWhenIdle && isIdle()) {
+                    running = false; // 자동 종료 (스레드는 풀로 돌아가고, 다시 시작하면 새 루프가 이어받음)
+                    break;
+                }
+                drainRequests();
+                movementStep();
+                if (elevatorStateListener != null) { // 한 단계가 끝날 때 상태 업데이트 알림
                     elevatorStateListener.onElevatorStateUpdated();
                 }
-                
-                Thread.sleep(500); 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break; // 인터럽트 발생 시 루프 종료
+
+                Thread.sleep(TICK_MILLIS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 발생 시 루프 종료
+        } catch (RuntimeException e) { // 명령/단계 처리 중 오류: 실행 중 상태로 남지 않도록 중지로 처리
+            running = false;
+            paused = false;
+            loggerFactory.error("차량 제어 스레드 오류로 중지: " + e);
+        } finally {
+            unbindOwnerThread();
+        }
+        if (elevatorStateListener != null) {
+            elevatorStateListener.onElevatorStateUpdated();
         }
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("이동 제어", "종료");
-        loggerFactory.log("이동 제어 스레드 종료.");
+        notifyThreadStatus("종료");
+        loggerFactory.log("차량 제어 스레드 종료.");
     }
 
     /**
-     * 스레드3: 상태 감시 스레드
-     * 주기적으로 엘리베이터 상태를 확인하고, 승객 탑승/하차 및 로그 출력
+     * 재개되거나 중지될 때까지 멈춰 기다립니다. 기다리는 동안 들어온 명령(요청, 체크포인트)은 바로 반영합니다.
      */
-    private void statusMonitorThread() {
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("상태 감시", "실행 중");
-        loggerFactory.log("상태 감시 스레드 시작.");
-        while(running) {
-            try {
-                synchronized (this) {
-                    loggerFactory.log("\n--- Step " + totalSteps++ + " ---");
-                    processPassengerExit(); 
-                    processPassengerBoarding(); 
-                    loggerFactory.log("현재 상태: " + elevator);
-                    
-                    if (!elevator.hasRequests() && !passengerService.hasWaitingPassengers()) {
-                         running = false; 
-                    }
+    private void awaitResume() throws InterruptedException {
+        notifyThreadStatus("일시정지");
+        parked = true;
+        try {
+            while (running && paused) {
+                if (drainRequests() > 0) continue; // 비운 뒤 들어온 명령은 parked를 보고 깨움
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
                 }
-                if (elevatorStateListener != null) { // 상태 감시 후 상태 업데이트 알림
-                    elevatorStateListener.onElevatorStateUpdated();
+            }
+        } finally {
+            parked = false;
+        }
+        drainRequests();
+        if (running) notifyThreadStatus("실행 중");
+    }
+
+    /**
+     * 명령 큐에 명령이 들어오거나 중지/일시정지될 때까지 CPU를 쓰지 않고 멈춰 기다립니다.
+     */
+    private void awaitCommand() throws InterruptedException {
+        notifyThreadStatus("대기 중");
+        parked = true;
+        try {
+            while (running && !paused && commands.isEmpty()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
                 }
-                
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break; 
             }
+        } finally {
+            parked = false;
+        }
+        notifyThreadStatus("실행 중");
+    }
+
+    private void notifyThreadStatus(String status) {
+        if (threadStatusListener == null) return;
+        for (String phase : PHASES) {
+            threadStatusListener.onStatusChange(phase, status);
         }
-        if (threadStatusListener != null) threadStatusListener.onStatusChange("상태 감시", "종료");
-        loggerFactory.log("상태 감시 스레드 종료.");
     }
     
-    private synchronized void processPassengerExit() {
+    // ========== 한 단계 처리 (스레드와 이산 사건 시뮬레이션이 공유) ==========
+
+    /**
+     * 명령 큐에 쌓인 요청/설정 변경을 블로킹 없이 모두 반영합니다. 소유 스레드에서만 호출합니다.
+     * @return 반영한 명령 수
+     */
+    public int drainRequests() {
+        int drained = 0;
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            drained++;
+        }
+        return drained;
+    }
+
+    private void applyRequest(Passenger passenger) {
+        passengerService.addNewPassenger(passenger);
+        waitingByFloor[passenger.getStartFloor() - elevator.getMinFloor()]++;
+        waitingChanged = true;
+        elevator.addRequest(passenger.getStartFloor());
+        addPlannedStop(passenger.getStartFloor());
+        addPlannedStop(passenger.getDestinationFloor());
+        pendingRequests.decrementAndGet();
+        publishState();
+        if (traceRecorder != null) {
+            traceRecorder.onRequest(carIndex, passengerService.getClock().nanoTime(), passenger);
+        }
+        loggerFactory.info("요청 처리됨: {}층", passenger.getStartFloor());
+    }
+
+    /**
+     * 이동 제어 한 단계: 대기 승객 층을 요청에 반영하고 스케줄링 전략에 따라 한 층 이동합니다.
+     */
+    public void movementStep() {
+        int minFloor = elevator.getMinFloor();
+        for (int i = 0; i < waitingByFloor.length; i++) { // 층별 대기 수 배열을 훑어 박싱/반복자 없이 반영
+            if (waitingByFloor[i] > 0) {
+                elevator.addRequest(minFloor + i);
+            }
+        }
+        SchedulingStrategy strategy = elevator.getSchedulingStrategy();
+        int nextFloor = strategy.nextTarget(elevator);
+        if (nextFloor != FloorRequestSet.NONE) {
+            moveOneFloor(nextFloor);
+        } else {
+            handleDirectionChange(strategy);
+        }
+        publishState();
+        if (traceRecorder != null) {
+            traceRecorder.onMove(carIndex, passengerService.getClock().nanoTime(),
+                elevator.getCurrentFloor(), elevator.getDirection());
+        }
+    }
+
+    /**
+     * 상태 감시 한 단계: 현재 층에서 하차/탑승을 처리하고 상태를 기록합니다.
+     */
+    public void monitorStep() {
+        loggerFactory.debug("\n--- Step {} ---", totalSteps++);
+        long now = passengerService.getClock().nanoTime(); // 이 정차에서 타고 내리는 승객의 공통 시각
+        int exited = processPassengerExit(now); 
+        List<Passenger> boarded = processPassengerBoarding(now); 
+        if (exited + boarded.size() > 0) {
+            stopCount++;
+        }
+        loggerFactory.debug("현재 상태: {}", elevator);
+        publishState();
+        if (traceRecorder != null) {
+            traceRecorder.onMonitor(carIndex, now, exited, boarded);
+        }
+    }
+
+    /**
+     * 처리할 요청, 대기 승객, 큐에 남은 요청이 모두 없는지 확인합니다.
+     */
+    public boolean isIdle() {
+        return !elevator.hasRequests() && !passengerService.hasWaitingPassengers() && commands.isEmpty();
+    }
+    
+    // @return 하차한 승객 수
+    private int processPassengerExit(long now) {
         if (elevator.hasRequestAt(elevator.getCurrentFloor())) {
             List<Passenger> exitingPassengers = passengerService.getExitingPassengers(
                 elevator.getPassengers(), elevator.getCurrentFloor()
             );
             
             if (!exitingPassengers.isEmpty()) {
-                loggerFactory.log(elevator.getCurrentFloor() + "층 도착 - 하차하는 승객:");
+                loggerFactory.info("{}층 도착 - 하차하는 승객:", elevator.getCurrentFloor());
                 for (Passenger passenger : exitingPassengers) {
-                    passengerService.processPassengerExit(passenger);
+                    passengerService.processPassengerExit(passenger, now);
+                    removePlannedStop(passenger.getDestinationFloor());
                 }
                 
                 elevator.removePassengersAt(elevator.getCurrentFloor());
                 elevator.removeRequest(elevator.getCurrentFloor());
+                return exitingPassengers.size();
             }
         }
+        return 0;
     }
     
-    private synchronized void processPassengerBoarding() {
-        List<Passenger> boardingPassengers = passengerService.getBoardingPassengers(
-            elevator.getCurrentFloor(), 
-            elevator.getDirection(), 
-            elevator.getCapacity()
-        );
+    // @return 탑승한 승객 (탑승 순서)
+    private List<Passenger> processPassengerBoarding(long now) {
+        Direction boardingDirection = elevator.getSchedulingStrategy().boardingDirection(elevator);
+        List<Passenger> boardingPassengers = (boardingDirection == null) ? List.of()
+            : passengerService.getBoardingPassengers(
+                elevator.getCurrentFloor(), 
+                boardingDirection, 
+                elevator.getCapacity() - elevator.getCurrentPassengerCount()
+            );
         
         if (!boardingPassengers.isEmpty()) {
-            loggerFactory.log(elevator.getCurrentFloor() + "층에서 탑승하는 승객:");
+            waitingByFloor[elevator.getCurrentFloor() - elevator.getMinFloor()] -= boardingPassengers.size();
+            waitingChanged = true;
+            loggerFactory.info("{}층에서 탑승하는 승객:", elevator.getCurrentFloor());
             for (Passenger passenger : boardingPassengers) {
-                passengerService.processPassengerBoarding(passenger);
+                passengerService.processPassengerBoarding(passenger, now);
                 elevator.addPassenger(passenger);
+                removePlannedStop(passenger.getStartFloor());
             }
         }
         elevator.removeRequest(elevator.getCurrentFloor());
+        return boardingPassengers;
+    }
+
+    // ========== 체크포인트 ==========
+
+    /**
+     * 소유 스레드에서 한 시점의 차량/승객 상태를 복사합니다.
+     * 실행 중이면 소유 스레드가 다음 명령을 반영할 때(최대 한 단계 뒤) 완료되므로, 여러 차량은 요청을 모두 보낸 뒤 기다립니다.
+     */
+    public CompletableFuture<SimulationCheckpoint.CarState> captureState() {
+        CompletableFuture<SimulationCheckpoint.CarState> state = new CompletableFuture<>();
+        execute(() -> state.complete(copyState()));
+        return state;
     }
 
-    public synchronized void printStatistics() {
+    private SimulationCheckpoint.CarState copyState() {
+        List<SimulationCheckpoint.PassengerState> onboard = new ArrayList<>(elevator.getCurrentPassengerCount());
+        for (Passenger passenger : elevator.getCurrentPassengers()) {
+            onboard.add(SimulationCheckpoint.PassengerState.of(passenger));
+        }
+        List<SimulationCheckpoint.PassengerState> waiting = new ArrayList<>(passengerService.getWaitingPassengerCount());
+        for (int floor = elevator.getMinFloor(); floor <= elevator.getMaxFloor(); floor++) {
+            passengerService.forEachWaitingAt(floor, passenger -> waiting.add(SimulationCheckpoint.PassengerState.of(passenger)));
+        }
+        FloorRequestSet requests = elevator.copyRequests();
+        int[] requestFloors = new int[requests.size()];
+        int[] next = {0};
+        requests.forEach(floor -> requestFloors[next[0]++] = floor);
+        TripStatistics statistics = new TripStatistics();
+        statistics.add(passengerService.getTripStatistics());
+        return new SimulationCheckpoint.CarState(elevator.getSchedulingStrategy().getName(), elevator.getCurrentFloor(),
+            elevator.getDirection(), elevator.isMoving(), requestFloors,
+            Collections.unmodifiableList(onboard), Collections.unmodifiableList(waiting),
+            totalSteps, stopCount, statistics);
+    }
+
+    /**
+     * 저장한 상태로 차량을 되돌립니다. 정지한 차량에만 사용할 수 있습니다.
+     * 정차 예정 층과 층별 대기 수는 승객 목록에서 다시 계산합니다.
+     * @param shiftNanos 승객 시각에 더할 값 (저장 시점 시계 값 → 현재 시계 값)
+     */
+    public void restoreState(SimulationCheckpoint.CarState state, long shiftNanos) {
+        if (running) {
+            throw new IllegalStateException("실행 중인 차량은 복원할 수 없습니다: " + elevator.getId());
+        }
+        SchedulingStrategy strategy = SchedulingStrategy.of(state.algorithm());
+        SimulationClock clock = passengerService.getClock();
+        List<Passenger> onboard = new ArrayList<>(state.onboard().size());
+        state.onboard().forEach(p -> onboard.add(p.toPassenger(clock, shiftNanos)));
+        List<Passenger> waiting = new ArrayList<>(state.waiting().size());
+        state.waiting().forEach(p -> waiting.add(p.toPassenger(clock, shiftNanos)));
+
+        execute(() -> {
+            elevator.setSchedulingStrategy(strategy);
+            elevator.restore(state.currentFloor(), state.direction(), state.moving(), state.requests(), onboard);
+            passengerService.restore(waiting, state.statistics());
+            Arrays.fill(waitingByFloor, 0);
+            Arrays.fill(plannedStopCounts, 0);
+            plannedStops.clear();
+            for (Passenger passenger : waiting) {
+                waitingByFloor[passenger.getStartFloor() - elevator.getMinFloor()]++;
+                addPlannedStop(passenger.getStartFloor());
+                addPlannedStop(passenger.getDestinationFloor());
+            }
+            for (Passenger passenger : onboard) {
+                addPlannedStop(passenger.getDestinationFloor());
+            }
+            waitingChanged = true;
+            plannedStopsChanged = true;
+            totalSteps = state.totalSteps();
+            stopCount = state.stopCount();
+            publishState();
+        });
+        if (elevatorStateListener != null) {
+            elevatorStateListener.onElevatorStateUpdated();
+        }
+    }
+
+    public void printStatistics() {
         if (running) return; 
         loggerFactory.log("\n=== 실행 통계 ===");
         loggerFactory.log("총 실행 단계: " + totalSteps);
-        loggerFactory.log("완료된 승객 수: " + passengerService.getCompletedPassengers().size());
-        loggerFactory.log("대기 중인 승객 수: " + passengerService.getWaitingPassengers().size());
-        
-        List<Passenger> completed = passengerService.getCompletedPassengers();
-        if (!completed.isEmpty()) {
-            double avgWaitTime = completed.stream()
-                .mapToLong(Passenger::getWaitingTime)
-                .average()
-                .orElse(0.0);
-            double avgTotalTime = completed.stream()
-                .mapToLong(Passenger::getTotalTime)
-                .average()
-                .orElse(0.0);
-            loggerFactory.log("평균 대기시간: " + String.format("%.1f", avgWaitTime) + "초");
-            loggerFactory.log("평균 총 소요시간: " + String.format("%.1f", avgTotalTime) + "초");
-        }
+        loggerFactory.log("완료된 승객 수: " + passengerService.getTripStatistics().getCompletedCount());
+        loggerFactory.log("대기 중인 승객 수: " + passengerService.getWaitingPassengerCount());
+        logTripStatistics(loggerFactory, passengerService.getTripStatistics());
         loggerFactory.log("최종 엘레베이터 위치: " + elevator.getCurrentFloor() + "층");
     }
 
-    public synchronized Elevator getElevator() { return elevator; }
-    public synchronized List<Passenger> getCompletedPassengers() { return passengerService.getCompletedPassengers(); }
-    public synchronized Queue<Passenger> getWaitingPassengers() { return passengerService.getWaitingPassengers(); }
-    public synchronized boolean isRunning() { return running; }
+    /**
+     * 대기/탑승/총 소요 시간의 평균과 백분위를 기록합니다. (완료 승객이 없으면 생략)
+     */
+    static void logTripStatistics(LoggerFactory loggerFactory, TripStatistics statistics) {
+        if (statistics.getCompletedCount() == 0) return;
+        loggerFactory.log(statistics.getWaiting().appendTo(new StringBuilder(96).append("대기시간: ")).toString());
+        loggerFactory.log(statistics.getRiding().appendTo(new StringBuilder(96).append("탑승시간: ")).toString());
+        loggerFactory.log(statistics.getTotal().appendTo(new StringBuilder(96).append("총 소요시간: ")).toString());
+    }
 
-    private Integer getNextFloorSCAN() {
-        int currentFloor = elevator.getCurrentFloor();
-        Direction currentDirection = elevator.getDirection();
-        
-        if (currentDirection == Direction.IDLE) {
-            return setInitialDirection();
+    public Elevator getElevator() { return elevator; }
+    public List<Passenger> getCompletedPassengers() { return passengerService.getCompletedPassengers(); }
+    public CompletedTripSink getCompletedTripSink() { return passengerService.getCompletedTripSink(); }
+    public TripStatistics getTripStatistics() { return passengerService.getTripStatistics(); }
+    public Queue<Passenger> getWaitingPassengers() { return passengerService.getWaitingPassengers(); }
+    public boolean isRunning() { return running; }
+    public boolean isPaused() { return paused; }
+    public int getStopCount() { return stopCount; }
+
+    // ========== 그룹 배차용 상태 (락 없이 조회) ==========
+
+    /**
+     * 마지막으로 게시된 차량 상태 (락 없이 읽음, 수정 불가)
+     */
+    public ElevatorSnapshot getSnapshot() { return snapshot; }
+
+    public int getDispatchFloor() { return snapshot.getCurrentFloor(); }
+    public Direction getDispatchDirection() { return snapshot.getDirection(); }
+
+    // 아직 소유 스레드가 반영하지 않은 요청도 부하로 셈
+    public int getDispatchLoad() {
+        ElevatorSnapshot current = snapshot;
+        return current.getOnboardCount() + current.getWaitingCount() + pendingRequests.get();
+    }
+
+    public int getDispatchCapacity() { return elevator.getCapacity(); }
+
+    /**
+     * 배정된 승객(대기 + 탑승) 때문에 이미 정차할 예정인 층인지 확인합니다.
+     */
+    public boolean hasPlannedStop(int floor) {
+        return publishedStops.contains(floor);
+    }
+
+    /**
+     * 지정한 층에서 가장 가까운 정차 예정 층까지의 거리, 정차 예정 층이 없으면 -1
+     */
+    public int distanceToPlannedStop(int floor) {
+        int nearest = publishedStops.nearest(floor);
+        return nearest == FloorRequestSet.NONE ? -1 : Math.abs(nearest - floor);
+    }
+
+    public int getPlannedStopCount() {
+        return publishedStops.size();
+    }
+
+    /**
+     * 현재 위치/방향/부하/요청 층/층별 대기 수를 새 스냅샷으로 게시하고, 바뀐 경우 정차 예정 층도 게시합니다.
+     * 엘리베이터 상태를 바꾼 뒤 소유 스레드에서 호출해야 합니다.
+     */
+    private void publishState() {
+        if (elevator.getRequestsModCount() != snapshotRequestsMod) {
+            snapshotRequestsMod = elevator.getRequestsModCount();
+            snapshotRequests = elevator.copyRequests();
         }
-        
-        if (currentDirection == Direction.UP) {
-            return elevator.getRequests().stream()
-                .filter(floor -> floor > currentFloor)
-                .min(Integer::compareTo)
-                .orElse(null);
-        } else { 
-            return elevator.getRequests().stream()
-                .filter(floor -> floor < currentFloor)
-                .max(Integer::compareTo)
-                .orElse(null);
+        if (waitingChanged) {
+            snapshotWaiting = waitingByFloor.clone();
+            waitingChanged = false;
+        }
+        snapshot = new ElevatorSnapshot(elevator, ++snapshotVersion, passengerService.getClock().nanoTime(),
+            snapshotRequests, snapshotWaiting, passengerService.getWaitingPassengerCount(), stopCount);
+        if (plannedStopsChanged) {
+            publishedStops = plannedStops.copy(); // 정차 층 집합이 바뀐 경우에만 복사
+            plannedStopsChanged = false;
         }
     }
 
-    private Integer setInitialDirection() {
-        if (elevator.getRequests().isEmpty()) {
-            return null;
+    private void addPlannedStop(int floor) {
+        if (plannedStopCounts[floor - elevator.getMinFloor()]++ == 0) {
+            plannedStops.add(floor);
+            plannedStopsChanged = true;
         }
-        
-        int currentFloor = elevator.getCurrentFloor();
-        int closestFloor = elevator.getRequests().stream()
-            .min(Comparator.comparing(floor -> Math.abs(floor - currentFloor)))
-            .orElse(currentFloor);
-        
-        if (closestFloor > currentFloor) {
-            elevator.setDirection(Direction.UP);
-        } else if (closestFloor < currentFloor) {
-            elevator.setDirection(Direction.DOWN);
+    }
+
+    private void removePlannedStop(int floor) {
+        int index = floor - elevator.getMinFloor();
+        if (plannedStopCounts[index] > 0 && --plannedStopCounts[index] == 0) {
+            plannedStops.remove(floor);
+            plannedStopsChanged = true;
         }
-        return closestFloor;
     }
-    
+
     private void moveOneFloor(int targetFloor) {
         int currentFloor = elevator.getCurrentFloor();
         if (currentFloor == targetFloor) return;
@@ -313,29 +853,28 @@ public class ElevatorService {
         if (targetFloor > currentFloor) {
             elevator.setCurrentFloor(currentFloor + 1);
             elevator.setDirection(Direction.UP);
-            loggerFactory.log((currentFloor + 1) + "층으로 이동 (UP)");
+            loggerFactory.debug("{}층으로 이동 (UP)", currentFloor + 1);
         } else {
             elevator.setCurrentFloor(currentFloor - 1);
             elevator.setDirection(Direction.DOWN);
-            loggerFactory.log((currentFloor - 1) + "층으로 이동 (DOWN)");
+            loggerFactory.debug("{}층으로 이동 (DOWN)", currentFloor - 1);
         }
     }
     
-    private void handleDirectionChange() {
-        int currentFloor = elevator.getCurrentFloor();
+    /**
+     * 진행 방향에 더 갈 곳이 없을 때 전략에 따라 방향을 바꾸거나 정지합니다.
+     */
+    private void handleDirectionChange(SchedulingStrategy strategy) {
         Direction currentDirection = elevator.getDirection();
-        
-        boolean hasRequestsInOppositeDirection = (currentDirection == Direction.UP) ? 
-            elevator.getRequests().stream().anyMatch(floor -> floor < currentFloor) :
-            elevator.getRequests().stream().anyMatch(floor -> floor > currentFloor);
-        
-        if (hasRequestsInOppositeDirection) {
-            Direction newDirection = (currentDirection == Direction.UP) ? Direction.DOWN : Direction.UP;
-            elevator.setDirection(newDirection);
-            loggerFactory.log("방향 전환: " + currentDirection + " → " + newDirection);
-        } else {
-            elevator.setDirection(Direction.IDLE);
+        Direction newDirection = strategy.nextDirection(elevator);
+        if (newDirection == currentDirection) {
+            return;
+        }
+        elevator.setDirection(newDirection);
+        if (newDirection == Direction.IDLE) {
             loggerFactory.log("모든 요청 처리 완료 - 정지");
+        } else {
+            loggerFactory.info("방향 전환: {} → {}", currentDirection, newDirection);
         }
     }
-}
\ No newline at end of file
+}
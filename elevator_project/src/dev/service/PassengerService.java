@@ -2,41 +2,114 @@ package dev.service;
 
 import dev.model.Direction;
 import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import dev.model.clock.SystemClock;
+import dev.model.stats.TripStatistics;
+import dev.service.sink.CompletedTripSink;
+import dev.service.sink.RollingWindowTripSink;
 import dev.controller.logger.LoggerFactory;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class PassengerService {
-    private final Queue<Passenger> waitingPassengers;
-    private final List<Passenger> completedPassengers;
+    // 출발 층별 대기 승객 (층 안에서는 방향별 FIFO), 대기 승객이 없는 층은 키를 제거
+    private final ConcurrentHashMap<Integer, FloorQueue> waitingByFloor;
+    private final AtomicInteger waitingCount;
+    private final TripStatistics tripStatistics = new TripStatistics(); // 하차 시점에 누적
+    private volatile CompletedTripSink completedTripSink = new RollingWindowTripSink();
     private final LoggerFactory loggerFactory;
-    
+    private volatile SimulationClock clock = SystemClock.INSTANCE;
+    private AtomicInteger idSequence = new AtomicInteger(1); // 이 시뮬레이션의 승객 번호
+    private int carIndex; // 완료 승객을 넘길 때 함께 전달하는 차량 번호
+
     public PassengerService(LoggerFactory loggerFactory) {
-        this.waitingPassengers = new ConcurrentLinkedQueue<>();
-        this.completedPassengers = new ArrayList<>();
+        this.waitingByFloor = new ConcurrentHashMap<>();
+        this.waitingCount = new AtomicInteger();
         this.loggerFactory = loggerFactory;
     }
-    
+
+    /**
+     * 새로 생성되는 승객의 시각 기록에 사용할 시계를 설정합니다.
+     */
+    public void setClock(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 하차한 승객을 넘길 싱크를 설정합니다. (기본값: 최근 1000명만 보관)
+     * 통계는 싱크와 관계없이 TripStatistics에 누적됩니다.
+     */
+    public void setCompletedTripSink(CompletedTripSink completedTripSink) {
+        this.completedTripSink = completedTripSink;
+    }
+
+    public CompletedTripSink getCompletedTripSink() {
+        return completedTripSink;
+    }
+
+    void setCarIndex(int carIndex) {
+        this.carIndex = carIndex;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * 승객 번호를 발급할 순번을 설정합니다. 그룹 배차에서는 모든 차량이 하나의 순번을 공유합니다.
+     */
+    public void setIdSequence(AtomicInteger idSequence) {
+        this.idSequence = idSequence;
+    }
+
     /**
      * 승객 객체 생성 및 대기열에 추가 (기존 메서드)
      */
     public void addPassengerRequest(int startFloor, int destinationFloor) {
-        Passenger passenger = new Passenger(startFloor, destinationFloor);
-        waitingPassengers.offer(passenger);
-        loggerFactory.info("승객 요청 추가: " + passenger);
+        addNewPassenger(createPassenger(startFloor, destinationFloor));
+    }
+
+    /**
+     * 이 시뮬레이션의 번호와 시계로 승객을 만듭니다. (요청 시각 기록, 대기열에는 넣지 않음)
+     */
+    public Passenger createPassenger(int startFloor, int destinationFloor) {
+        return new Passenger(idSequence.getAndIncrement(), startFloor, destinationFloor, clock);
     }
-    
+
+    /**
+     * createPassenger로 만든 새 승객을 대기열에 추가합니다.
+     */
+    public void addNewPassenger(Passenger passenger) {
+        enqueueWaiting(passenger);
+        loggerFactory.info("승객 요청 추가: {}", passenger);
+    }
+
     /**
      * 외부에서 생성된 승객 객체를 대기열에 추가하는 새로운 메서드
      */
     public void addPassengerRequest(Passenger passenger) {
-        waitingPassengers.offer(passenger);
-        loggerFactory.info("승객 객체 대기열에 추가: " + passenger);
+        enqueueWaiting(passenger);
+        loggerFactory.info("승객 객체 대기열에 추가: {}", passenger);
+    }
+
+    private void enqueueWaiting(Passenger passenger) {
+        // 키 제거와 경합하지 않도록 층 단위 원자적 갱신(compute) 안에서 추가
+        waitingByFloor.compute(passenger.getStartFloor(), (floor, queue) -> {
+            FloorQueue target = (queue != null) ? queue : new FloorQueue();
+            target.add(passenger);
+            return target;
+        });
+        waitingCount.incrementAndGet();
     }
-    
+
     /**
      * 현재 층에서 하차하는 승객 리스트 반환
      */
@@ -45,68 +118,197 @@ public class PassengerService {
             .filter(p -> p.getDestinationFloor() == currentFloor)
             .toList();
     }
-    
+
     /**
      * 하차 처리
      */
     public void processPassengerExit(Passenger passenger) {
-        passenger.arrive();
-        completedPassengers.add(passenger);
-        loggerFactory.info("  " + passenger + " 하차 (소요시간: " + passenger.getTotalTime() + "초)");
+        processPassengerExit(passenger, clock.nanoTime());
+    }
+
+    /**
+     * 지정한 시각(정차 시각)으로 하차 처리
+     */
+    public void processPassengerExit(Passenger passenger, long nowNanos) {
+        passenger.arrive(nowNanos);
+        tripStatistics.record(passenger);
+        completedTripSink.accept(passenger, carIndex);
+        if (loggerFactory.isInfoEnabled()) {
+            loggerFactory.info(logPassenger(passenger, " 하차 (소요시간: ", passenger.getTotalNanos()));
+        }
     }
-    
+
     /**
      * 현재 층에서 탑승 가능한 승객 리스트 반환
+     * 해당 층의 대기열만 확인하므로 비용은 그 층의 대기 승객 수에 비례합니다.
      */
     public List<Passenger> getBoardingPassengers(int currentFloor, Direction elevatorDirection, int availableCapacity) {
-        List<Passenger> boardingPassengers = new ArrayList<>();
-        Iterator<Passenger> iterator = waitingPassengers.iterator();
-        
-        while (iterator.hasNext() && boardingPassengers.size() < availableCapacity) {
-            Passenger passenger = iterator.next();
-            
-            if (passenger.getStartFloor() == currentFloor) {
-                // 승객의 방향이 엘리베이터 방향과 일치하거나 엘리베이터가 정지 상태인 경우 탑승
-                if (elevatorDirection == Direction.IDLE || passenger.getDirection() == elevatorDirection) {
-                    boardingPassengers.add(passenger);
-                    iterator.remove();
-                }
-            }
+        if (availableCapacity <= 0 || !waitingByFloor.containsKey(currentFloor)) {
+            return List.of();
         }
+        List<Passenger> boardingPassengers = new ArrayList<>();
+        waitingByFloor.computeIfPresent(currentFloor, (floor, queue) -> {
+            queue.pollBoarding(elevatorDirection, availableCapacity, boardingPassengers);
+            return queue.isEmpty() ? null : queue;
+        });
+        waitingCount.addAndGet(-boardingPassengers.size());
         return boardingPassengers;
     }
-    
+
     /**
      * 탑승 처리
      */
     public void processPassengerBoarding(Passenger passenger) {
-        passenger.board();
-        loggerFactory.info("  " + passenger + " 탑승 (대기시간: " + passenger.getWaitingTime() + "초)");
+        processPassengerBoarding(passenger, clock.nanoTime());
     }
-    
+
     /**
-     * 모든 대기 승객의 출발 층을 요청 리스트로 반환
+     * 지정한 시각(정차 시각)으로 탑승 처리
      */
-    public List<Integer> getWaitingPassengerFloors() {
-        return waitingPassengers.stream()
-            .map(Passenger::getStartFloor)
-            .toList();
+    public void processPassengerBoarding(Passenger passenger, long nowNanos) {
+        passenger.board(nowNanos);
+        if (loggerFactory.isInfoEnabled()) {
+            loggerFactory.info(logPassenger(passenger, " 탑승 (대기시간: ", passenger.getWaitingNanos()));
+        }
+    }
+
+    // "  승객1[...] 하차 (소요시간: 1.250초)" 형식의 로그 문자열
+    private static String logPassenger(Passenger passenger, String action, long elapsedNanos) {
+        StringBuilder sb = passenger.appendTo(new StringBuilder(64).append("  ")).append(action);
+        return SimulationClock.appendSeconds(sb, elapsedNanos).append("초)").toString();
     }
-    
+
+    /**
+     * 대기 승객이 있는 출발 층 목록 반환 (중복 없음, 복사하지 않는 읽기 전용 뷰)
+     */
+    public Set<Integer> getWaitingPassengerFloors() {
+        return Collections.unmodifiableSet(waitingByFloor.keySet());
+    }
+
+    /**
+     * 특정 층의 대기 승객 수 반환
+     */
+    public int getWaitingCountAt(int floor) {
+        FloorQueue queue = waitingByFloor.get(floor);
+        return queue == null ? 0 : queue.size();
+    }
+
     public boolean hasWaitingPassengers() {
-        return !waitingPassengers.isEmpty();
+        return waitingCount.get() > 0;
     }
 
     // Getters
     public Queue<Passenger> getWaitingPassengers() {
-        return new ConcurrentLinkedQueue<>(waitingPassengers);
+        List<Passenger> snapshot = new ArrayList<>(waitingCount.get());
+        waitingByFloor.values().forEach(queue -> queue.copyTo(snapshot));
+        snapshot.sort(Comparator.comparingInt(Passenger::getId)); // 요청 순서 유지
+        return new ConcurrentLinkedQueue<>(snapshot);
     }
-    
+
+    /**
+     * 한 층의 대기 승객을 상행, 하행 대기 순서로 넘깁니다. (같은 순서로 다시 넣으면 대기열이 복원됨)
+     */
+    public void forEachWaitingAt(int floor, Consumer<Passenger> action) {
+        FloorQueue queue = waitingByFloor.get(floor);
+        if (queue != null) {
+            queue.forEach(action);
+        }
+    }
+
+    /**
+     * 대기열과 통계를 체크포인트의 내용으로 바꿉니다. (소유 스레드에서 호출)
+     */
+    void restore(List<Passenger> waiting, TripStatistics statistics) {
+        waitingByFloor.clear();
+        for (Passenger passenger : waiting) {
+            FloorQueue queue = waitingByFloor.get(passenger.getStartFloor());
+            if (queue == null) {
+                queue = new FloorQueue();
+                waitingByFloor.put(passenger.getStartFloor(), queue);
+            }
+            queue.add(passenger);
+        }
+        waitingCount.set(waiting.size());
+        tripStatistics.reset();
+        tripStatistics.add(statistics);
+    }
+
+    /**
+     * 싱크가 보관 중인 최근 완료 승객 (전체 완료 수는 getTripStatistics로 조회)
+     */
     public List<Passenger> getCompletedPassengers() {
-        return new ArrayList<>(completedPassengers);
+        return completedTripSink.recent();
     }
-    
+
+    /**
+     * 하차한 승객의 대기/탑승/총 소요 시간 분포 (실행 중에도 조회 가능)
+     */
+    public TripStatistics getTripStatistics() {
+        return tripStatistics;
+    }
+
     public int getWaitingPassengerCount() {
-        return waitingPassengers.size();
+        return waitingCount.get();
+    }
+
+    /**
+     * 한 층의 대기열. 상행/하행 승객을 각각 요청 순서대로 보관합니다.
+     */
+    private static final class FloorQueue {
+        private final Queue<Passenger> up = new ConcurrentLinkedQueue<>();
+        private final Queue<Passenger> down = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(Passenger passenger) {
+            (passenger.getDirection() == Direction.DOWN ? down : up).offer(passenger);
+            size.incrementAndGet();
+        }
+
+        /**
+         * 엘리베이터 방향과 같은 방향의 승객을 FIFO로 꺼냅니다.
+         * 정지(IDLE) 상태면 두 대기열을 요청 순서대로 병합해 꺼냅니다.
+         */
+        void pollBoarding(Direction direction, int limit, List<Passenger> out) {
+            if (direction == Direction.UP) {
+                drain(up, limit, out);
+            } else if (direction == Direction.DOWN) {
+                drain(down, limit, out);
+            } else {
+                while (out.size() < limit) {
+                    Passenger nextUp = up.peek();
+                    Passenger nextDown = down.peek();
+                    if (nextUp == null && nextDown == null) break;
+                    boolean takeUp = nextDown == null || (nextUp != null && nextUp.getId() < nextDown.getId());
+                    out.add((takeUp ? up : down).poll());
+                    size.decrementAndGet();
+                }
+            }
+        }
+
+        private void drain(Queue<Passenger> queue, int limit, List<Passenger> out) {
+            Passenger passenger;
+            while (out.size() < limit && (passenger = queue.poll()) != null) {
+                out.add(passenger);
+                size.decrementAndGet();
+            }
+        }
+
+        void copyTo(List<Passenger> target) {
+            target.addAll(up);
+            target.addAll(down);
+        }
+
+        void forEach(Consumer<Passenger> action) {
+            up.forEach(action);
+            down.forEach(action);
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        boolean isEmpty() {
+            return size.get() == 0;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package dev.service.checkpoint;
+
+import dev.model.Direction;
+import dev.model.stats.TripStatistics;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SimulationCheckpoint를 이진 파일로 저장하고 읽습니다. (Java 직렬화 사용 안 함)
+ *
+ * 형식 (빅 엔디언): 매직 "ELCK"(int), 버전(short), 건물 구성(최저/최고층, 정원, 차량 수, 배차 정책), 시계 값, 다음 승객 번호 뒤에
+ * 차량마다 전략 이름, 위치/방향/이동 여부, 실행 단계/정차 수, 요청 층, 탑승 승객, 대기 승객, 시간 분포(비어 있지 않은 버킷만)가 이어집니다.
+ * 승객은 번호, 출발층, 도착층, 요청/탑승 시각 24바이트입니다.
+ * 파일 전체를 버퍼 하나로 만들어 한 번에 쓰고 읽으며, 임시 파일에 쓰고 디스크에 반영한 뒤 바꿔치기하므로
+ * 저장 도중 중단되어도 이전 체크포인트는 그대로 남습니다.
+ */
+public final class CheckpointFile {
+    static final int MAGIC = 0x454C434B; // "ELCK"
+    static final short VERSION = 1;
+    private static final int PASSENGER_BYTES = 24;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private CheckpointFile() {
+    }
+
+    public static void write(Path file, SimulationCheckpoint checkpoint) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(encodedSizeBound(checkpoint));
+        out.putInt(MAGIC).putShort(VERSION);
+        out.putInt(checkpoint.minFloor()).putInt(checkpoint.maxFloor()).putInt(checkpoint.capacity());
+        out.putInt(checkpoint.cars().size());
+        putString(out, checkpoint.dispatch());
+        out.putLong(checkpoint.clockNanos()).putInt(checkpoint.nextPassengerId());
+        for (SimulationCheckpoint.CarState car : checkpoint.cars()) {
+            putCar(out, car);
+        }
+        out.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static SimulationCheckpoint read(Path file) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (in.remaining() < Integer.BYTES || in.getInt() != MAGIC) {
+                throw new IOException("체크포인트 파일이 아닙니다: " + file);
+            }
+            int version = Short.toUnsignedInt(in.getShort());
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 체크포인트 버전입니다: " + version);
+            }
+            int minFloor = in.getInt();
+            int maxFloor = in.getInt();
+            int capacity = in.getInt();
+            int carCount = in.getInt();
+            String dispatch = getString(in);
+            long clockNanos = in.getLong();
+            int nextPassengerId = in.getInt();
+            List<SimulationCheckpoint.CarState> cars = new ArrayList<>(Math.min(carCount, 1 << 10));
+            for (int i = 0; i < carCount; i++) {
+                cars.add(getCar(in));
+            }
+            return new SimulationCheckpoint(minFloor, maxFloor, capacity, dispatch, clockNanos, nextPassengerId, List.copyOf(cars));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("체크포인트 파일이 중간에 끝났습니다: " + file);
+        } catch (IllegalArgumentException e) { // 잘못된 길이, 버킷 번호
+            throw new IOException("손상된 체크포인트 파일입니다: " + file + " - " + e.getMessage());
+        }
+    }
+
+    // 히스토그램은 버킷이 모두 찼을 때의 크기로 잡음
+    private static int encodedSizeBound(SimulationCheckpoint checkpoint) {
+        long bytes = 64 + stringBytes(checkpoint.dispatch());
+        for (SimulationCheckpoint.CarState car : checkpoint.cars()) {
+            bytes += 32 + stringBytes(car.algorithm()) + (long) car.requests().length * Integer.BYTES
+                + (long) (car.onboard().size() + car.waiting().size()) * PASSENGER_BYTES
+                + TripStatistics.MAX_ENCODED_BYTES;
+        }
+        if (bytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("체크포인트가 너무 큽니다: " + bytes + "바이트");
+        }
+        return (int) bytes;
+    }
+
+    private static void putCar(ByteBuffer out, SimulationCheckpoint.CarState car) {
+        putString(out, car.algorithm());
+        out.putInt(car.currentFloor());
+        out.put((byte) car.direction().ordinal());
+        out.put((byte) (car.moving() ? 1 : 0));
+        out.putInt(car.totalSteps()).putInt(car.stopCount());
+        out.putInt(car.requests().length);
+        for (int floor : car.requests()) {
+            out.putInt(floor);
+        }
+        putPassengers(out, car.onboard());
+        putPassengers(out, car.waiting());
+        car.statistics().writeTo(out);
+    }
+
+    private static SimulationCheckpoint.CarState getCar(ByteBuffer in) {
+        String algorithm = getString(in);
+        int currentFloor = in.getInt();
+        int direction = Byte.toUnsignedInt(in.get());
+        if (direction >= DIRECTIONS.length) {
+            throw new IllegalArgumentException("알 수 없는 방향: " + direction);
+        }
+        boolean moving = in.get() != 0;
+        int totalSteps = in.getInt();
+        int stopCount = in.getInt();
+        int[] requests = new int[checkedCount(in, Integer.BYTES)];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = in.getInt();
+        }
+        List<SimulationCheckpoint.PassengerState> onboard = getPassengers(in);
+        List<SimulationCheckpoint.PassengerState> waiting = getPassengers(in);
+        TripStatistics statistics = new TripStatistics();
+        statistics.readFrom(in);
+        return new SimulationCheckpoint.CarState(algorithm, currentFloor, DIRECTIONS[direction], moving, requests,
+            onboard, waiting, totalSteps, stopCount, statistics);
+    }
+
+    private static void putPassengers(ByteBuffer out, List<SimulationCheckpoint.PassengerState> passengers) {
+        out.putInt(passengers.size());
+        for (SimulationCheckpoint.PassengerState p : passengers) {
+            out.putInt(p.id())
+                .putShort((short) p.startFloor())
+                .putShort((short) p.destinationFloor())
+                .putLong(p.requestNanos())
+                .putLong(p.boardingNanos());
+        }
+    }
+
+    private static List<SimulationCheckpoint.PassengerState> getPassengers(ByteBuffer in) {
+        int count = checkedCount(in, PASSENGER_BYTES);
+        SimulationCheckpoint.PassengerState[] passengers = new SimulationCheckpoint.PassengerState[count];
+        for (int i = 0; i < count; i++) {
+            passengers[i] = new SimulationCheckpoint.PassengerState(in.getInt(), in.getShort(), in.getShort(),
+                in.getLong(), in.getLong());
+        }
+        return List.of(passengers);
+    }
+
+    // 개수 뒤에 남은 바이트로 담을 수 없는 값이면 손상된 파일
+    private static int checkedCount(ByteBuffer in, int elementBytes) {
+        int count = in.getInt();
+        if (count < 0 || (long) count * elementBytes > in.remaining()) {
+            throw new IllegalArgumentException("잘못된 개수: " + count);
+        }
+        return count;
+    }
+
+    private static int stringBytes(String value) {
+        return Short.BYTES + value.length() * 3; // UTF-8 최대 길이
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
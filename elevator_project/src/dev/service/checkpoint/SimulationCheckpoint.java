@@ -0,0 +1,53 @@
+package dev.service.checkpoint;
+
+import dev.model.Direction;
+import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import dev.model.stats.TripStatistics;
+import java.util.List;
+
+/**
+ * 그룹 전체의 실행 상태 (차량 위치/방향/요청 층, 탑승/대기 승객, 실행 단계, 통계)
+ * 각 차량은 자기 소유 스레드에서 한 시점의 상태를 복사하므로 실행 중에도 만들 수 있습니다.
+ * 완료 승객 목록(싱크)과 명령 큐에 아직 반영되지 않은 요청은 포함하지 않습니다.
+ *
+ * @param clockNanos 저장 시점의 시계 값 (복원할 때 승객 시각을 새 시계 기준으로 옮기는 기준)
+ * @param nextPassengerId 다음에 발급할 승객 번호
+ */
+public record SimulationCheckpoint(int minFloor, int maxFloor, int capacity, String dispatch,
+                                   long clockNanos, int nextPassengerId, List<CarState> cars) {
+
+    /**
+     * 차량 한 대의 상태
+     * @param requests 요청 층 (오름차순)
+     * @param onboard 탑승 승객 (탑승 순서)
+     * @param waiting 이 차량에 배정된 대기 승객 (층/방향별 대기 순서)
+     */
+    public record CarState(String algorithm, int currentFloor, Direction direction, boolean moving, int[] requests,
+                           List<PassengerState> onboard, List<PassengerState> waiting,
+                           int totalSteps, int stopCount, TripStatistics statistics) {
+    }
+
+    /**
+     * 아직 내리지 않은 승객 (탑승 전이면 boardingNanos가 -1, 복원을 거친 시각은 음수일 수 있음)
+     */
+    public record PassengerState(int id, int startFloor, int destinationFloor, long requestNanos, long boardingNanos) {
+
+        public static PassengerState of(Passenger passenger) {
+            return new PassengerState(passenger.getId(), passenger.getStartFloor(), passenger.getDestinationFloor(),
+                passenger.getRequestNanos(), passenger.getBoardingNanos());
+        }
+
+        /**
+         * 복원할 시계 기준으로 승객을 다시 만듭니다.
+         * @param shiftNanos 저장 시점 시계 값에서 복원 시점 시계 값까지의 차이 (중단된 동안은 대기 시간에 넣지 않음)
+         */
+        public Passenger toPassenger(SimulationClock clock, long shiftNanos) {
+            Passenger passenger = new Passenger(id, startFloor, destinationFloor, clock, requestNanos + shiftNanos);
+            if (boardingNanos != -1) {
+                passenger.board(boardingNanos + shiftNanos);
+            }
+            return passenger;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.service.dispatch;
+
+import dev.model.Direction;
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+
+/**
+ * 목적층 배차 (destination dispatch)
+ * 호출 시점에 이미 알고 있는 도착층을 사용해, 승차층/도착층에 이미 정차할 예정인 차량에
+ * 같은(또는 가까운) 목적지의 승객을 모아 태웁니다. 출근 시간처럼 로비에서 한꺼번에 출발하는
+ * 교통량에서 차량별 정차 횟수와 총 소요 시간을 줄이는 것이 목적입니다.
+ *
+ * 비용 = 호출 층까지의 예상 이동 층수
+ *      + 새로 생기는 정차 비용 (승차층, 도착층 각각: 이미 정차 예정 0, 인접층 STOP_PENALTY/2, 그 외 STOP_PENALTY)
+ *      + 부하 1명당 1
+ *      + 정원 초과 시 초과 인원당 한 번의 왕복 스윕
+ */
+public class DestinationDispatchPolicy implements DispatchPolicy {
+    // 새 정차 한 번의 비용 (이동 층수 환산)
+    private static final int STOP_PENALTY = 4;
+    // 이 거리 이내의 정차 예정 층이 있으면 인접 정차로 보고 비용을 절반만 부과
+    private static final int NEARBY_FLOORS = 1;
+
+    @Override
+    public String getName() {
+        return "DESTINATION";
+    }
+
+    @Override
+    public ElevatorService selectCar(ElevatorGroupService group, int startFloor, int destinationFloor) {
+        Direction callDirection = destinationFloor > startFloor ? Direction.UP : Direction.DOWN;
+        int sweepFloors = 2 * (group.getMaxFloor() - group.getMinFloor());
+        ElevatorService best = null;
+        int bestCost = Integer.MAX_VALUE;
+        for (ElevatorService car : group.getCars()) {
+            int cost = EtaDispatchPolicy.travelFloors(car, startFloor, callDirection,
+                    group.getMinFloor(), group.getMaxFloor())
+                + stopCost(car, startFloor)
+                + stopCost(car, destinationFloor)
+                + car.getDispatchLoad();
+            int overflow = car.getDispatchLoad() + 1 - car.getDispatchCapacity();
+            if (overflow > 0) {
+                cost += overflow * sweepFloors; // 이번 운행에 못 타고 다음 스윕을 기다려야 함
+            }
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = car;
+            }
+        }
+        return best;
+    }
+
+    private static int stopCost(ElevatorService car, int floor) {
+        int distance = car.distanceToPlannedStop(floor);
+        if (distance == 0) {
+            return 0;
+        }
+        if (distance > 0 && distance <= NEARBY_FLOORS) {
+            return STOP_PENALTY / 2;
+        }
+        return STOP_PENALTY;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.service.dispatch;
+
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+
+/**
+ * 그룹 배차 정책: 새 홀 호출을 어느 차량에 배정할지 결정합니다.
+ * 각 차량이 게시한 배차 상태(getDispatchFloor/Direction/Load)만 읽어야 하며 차량 모니터를 잡지 않습니다.
+ */
+public interface DispatchPolicy {
+
+    /**
+     * 정책 이름 (로그/보고서 표시용)
+     */
+    String getName();
+
+    /**
+     * 호출을 배정할 차량을 고릅니다.
+     */
+    ElevatorService selectCar(ElevatorGroupService group, int startFloor, int destinationFloor);
+
+    /**
+     * 이름으로 정책을 생성합니다. (eta, nearest, destination, 대소문자 무시)
+     */
+    static DispatchPolicy of(String name) {
+        return switch (name.toLowerCase()) {
+            case "eta" -> new EtaDispatchPolicy();
+            case "nearest", "nearest-car" -> new NearestCarDispatchPolicy();
+            case "destination", "dd" -> new DestinationDispatchPolicy();
+            default -> throw new IllegalArgumentException("알 수 없는 배차 정책: " + name);
+        };
+    }
+}
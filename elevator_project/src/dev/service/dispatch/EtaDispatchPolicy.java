@@ -0,0 +1,69 @@
+package dev.service.dispatch;
+
+import dev.model.Direction;
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+
+/**
+ * ETA + 부하 비용 배차 (기본 정책)
+ * 차량이 호출 층에 도착하기까지의 예상 이동 층수에 부하 가중치를 더한 비용이 가장 낮은 차량을 고릅니다.
+ */
+public class EtaDispatchPolicy implements DispatchPolicy {
+    // 부하(탑승 + 배정된 대기 승객) 1명당 추가되는 예상 이동 층수
+    private static final int LOAD_PENALTY = 2;
+
+    @Override
+    public String getName() {
+        return "ETA";
+    }
+
+    @Override
+    public ElevatorService selectCar(ElevatorGroupService group, int startFloor, int destinationFloor) {
+        Direction callDirection = destinationFloor > startFloor ? Direction.UP : Direction.DOWN;
+        ElevatorService best = null;
+        int bestCost = Integer.MAX_VALUE;
+        for (ElevatorService car : group.getCars()) {
+            int cost = estimateCost(car, startFloor, callDirection, group.getMinFloor(), group.getMaxFloor());
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = car;
+            }
+        }
+        return best;
+    }
+
+    static int estimateCost(ElevatorService car, int callFloor, Direction callDirection, int minFloor, int maxFloor) {
+        return travelFloors(car, callFloor, callDirection, minFloor, maxFloor) + car.getDispatchLoad() * LOAD_PENALTY;
+    }
+
+    /**
+     * 차량이 호출 층에 도착하기까지의 예상 이동 층수
+     * 같은 방향으로 지나가는 차량은 거리만, 반대 방향이면 끝층을 돌아오는 거리를 셉니다.
+     */
+    static int travelFloors(ElevatorService car, int callFloor, Direction callDirection, int minFloor, int maxFloor) {
+        int floor = car.getDispatchFloor();
+        Direction direction = car.getDispatchDirection();
+        int eta;
+
+        if (direction == Direction.UP) {
+            if (callDirection == Direction.UP && callFloor >= floor) {
+                eta = callFloor - floor;
+            } else if (callDirection == Direction.DOWN) {
+                eta = (maxFloor - floor) + (maxFloor - callFloor);
+            } else {
+                eta = (maxFloor - floor) + (maxFloor - minFloor) + (callFloor - minFloor);
+            }
+        } else if (direction == Direction.DOWN) {
+            if (callDirection == Direction.DOWN && callFloor <= floor) {
+                eta = floor - callFloor;
+            } else if (callDirection == Direction.UP) {
+                eta = (floor - minFloor) + (callFloor - minFloor);
+            } else {
+                eta = (floor - minFloor) + (maxFloor - minFloor) + (maxFloor - callFloor);
+            }
+        } else {
+            eta = Math.abs(callFloor - floor);
+        }
+        return eta;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.service.dispatch;
+
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+
+/**
+ * 가장 가까운 차량(nearest-car): 진행 방향과 부하를 보지 않고 층 거리만으로 배정합니다.
+ * 거리가 같으면 번호가 앞선 차량을 고릅니다.
+ */
+public class NearestCarDispatchPolicy implements DispatchPolicy {
+
+    @Override
+    public String getName() {
+        return "NEAREST";
+    }
+
+    @Override
+    public ElevatorService selectCar(ElevatorGroupService group, int startFloor, int destinationFloor) {
+        ElevatorService best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (ElevatorService car : group.getCars()) {
+            int distance = Math.abs(car.getDispatchFloor() - startFloor);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = car;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,248 @@
+package dev.service.simulation;
+
+import dev.service.ElevatorGroupService;
+import dev.service.ElevatorService;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이산 사건 시뮬레이션 엔진
+ * Thread.sleep 주기 대신 시각이 찍힌 사건을 우선순위 큐에서 꺼내 가상 시계를 전진시킵니다.
+ * 각 차량은 ElevatorService의 단계 메서드(monitorStep/movementStep)를 그대로 사용하므로
+ * 스레드 모드와 같은 SCAN 로직을 실행합니다.
+ *
+ * 배치 모드(realTimeFactor = 0)에서는 CPU가 허용하는 최대 속도로 실행하고,
+ * 실시간 모드에서는 가상 시간 / realTimeFactor 만큼 벽시계 시간을 맞춰 화면 갱신에 사용할 수 있습니다.
+ */
+public class DiscreteEventSimulation {
+    public static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(ElevatorService.TICK_MILLIS);
+
+    private final ElevatorGroupService groupService;
+    private final VirtualClock clock = new VirtualClock();
+    private final PriorityQueue<SimulationEvent> events = new PriorityQueue<>();
+    private final Set<ElevatorService> activeCars = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Object lock = new Object();
+
+    private long tickNanos = TICK_NANOS;
+    private double realTimeFactor = 0.0;
+    private long sequence;
+    private long processedEvents;
+    private volatile boolean stopped;
+    private ElevatorService.ElevatorStateListener stepListener;
+
+    /**
+     * 그룹의 승객 시각과 로그가 이 엔진의 가상 시계를 따르도록 연결합니다.
+     * 승객을 예약하기 전에 생성해야 합니다.
+     */
+    public DiscreteEventSimulation(ElevatorGroupService groupService) {
+        this.groupService = groupService;
+        groupService.setClock(clock);
+    }
+
+    // ========== 설정 ==========
+
+    /**
+     * 실시간 배속을 설정합니다. 0이면 배치 모드(대기 없음), 1.0이면 실제 시간과 같은 속도입니다.
+     */
+    public void setRealTimeFactor(double realTimeFactor) {
+        if (realTimeFactor < 0) {
+            throw new IllegalArgumentException("배속은 0 이상이어야 합니다: " + realTimeFactor);
+        }
+        this.realTimeFactor = realTimeFactor;
+    }
+
+    /**
+     * 한 층 이동(출발 → 다음 문 열림)에 걸리는 가상 시간을 설정합니다.
+     */
+    public void setTickNanos(long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("단계 주기는 0보다 커야 합니다: " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * 사건을 하나 처리할 때마다 호출될 리스너 (실시간 모드의 화면 갱신용)
+     */
+    public void setStepListener(ElevatorService.ElevatorStateListener stepListener) {
+        this.stepListener = stepListener;
+    }
+
+    // ========== 사건 예약 ==========
+
+    /**
+     * 지정한 가상 시각에 승객 도착을 예약합니다. 실행 중에도 다른 스레드에서 호출할 수 있습니다.
+     * 예약 없이 그룹에 바로 넣은 요청도 실행 중이면 현재 가상 시각에 반영됩니다.
+     */
+    public void schedulePassenger(long timeNanos, int startFloor, int destinationFloor) {
+        synchronized (lock) {
+            long at = Math.max(timeNanos, clock.nanoTime());
+            events.add(SimulationEvent.arrival(at, sequence++, startFloor, destinationFloor));
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * 현재 가상 시각에 승객 도착을 예약합니다.
+     */
+    public void schedulePassengerNow(int startFloor, int destinationFloor) {
+        schedulePassenger(clock.nanoTime(), startFloor, destinationFloor);
+    }
+
+    private void schedule(long timeNanos, SimulationEvent.Type type, ElevatorService car) {
+        events.add(SimulationEvent.carEvent(timeNanos, sequence++, type, car));
+    }
+
+    // ========== 실행 ==========
+
+    /**
+     * 사건 큐가 빌 때까지 실행합니다.
+     * @return 마지막 사건의 가상 시각 (나노초)
+     */
+    public long run() {
+        return runUntil(Long.MAX_VALUE);
+    }
+
+    /**
+     * 사건 큐가 비거나 지정한 가상 시각에 도달할 때까지 실행합니다.
+     * @return 마지막으로 처리한 사건의 가상 시각 (나노초)
+     */
+    public long runUntil(long endNanos) {
+        stopped = false;
+        // 실행하는 동안 이 스레드가 모든 차량의 소유 스레드 (다른 스레드의 요청은 차량 명령 큐로)
+        groupService.getCars().forEach(ElevatorService::bindOwnerThread);
+        groupService.getCars().forEach(car -> car.setCommandListener(this::onCommandQueued));
+        try {
+            return runEvents(endNanos);
+        } finally {
+            groupService.getCars().forEach(car -> car.setCommandListener(null));
+            groupService.getCars().forEach(ElevatorService::unbindOwnerThread);
+        }
+    }
+
+    private long runEvents(long endNanos) {
+        long wallStart = System.nanoTime();
+        long virtualStart = clock.nanoTime();
+
+        while (!stopped) {
+            SimulationEvent event;
+            synchronized (lock) {
+                event = events.peek();
+                if (event == null || event.timeNanos > endNanos) {
+                    break;
+                }
+                if (realTimeFactor > 0) {
+                    long dueWall = wallStart + (long) ((event.timeNanos - virtualStart) / realTimeFactor);
+                    long waitNanos = dueWall - System.nanoTime();
+                    if (waitNanos > 0) {
+                        try {
+                            TimeUnit.NANOSECONDS.timedWait(lock, waitNanos);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                        continue; // 대기 중 더 이른 사건이 들어왔을 수 있으므로 다시 확인
+                    }
+                }
+                events.poll();
+                clock.advanceTo(event.timeNanos);
+            }
+            process(event);
+            processedEvents++;
+            if (stepListener != null) {
+                stepListener.onElevatorStateUpdated();
+            }
+        }
+        return clock.nanoTime();
+    }
+
+    /**
+     * 실행 중인 run()/runUntil()을 현재 사건 처리 후 멈춥니다.
+     */
+    public void stop() {
+        stopped = true;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    private void process(SimulationEvent event) {
+        long now = event.timeNanos;
+        switch (event.type) {
+            case PASSENGER_ARRIVAL -> {
+                ElevatorService car = groupService.addPassengerRequest(event.startFloor, event.destinationFloor);
+                activate(car, now);
+            }
+            case DOOR_OPEN -> {
+                event.car.drainRequests();
+                event.car.monitorStep();
+                synchronized (lock) {
+                    schedule(now, SimulationEvent.Type.DEPART, event.car);
+                }
+            }
+            case DEPART -> {
+                event.car.drainRequests();
+                event.car.movementStep();
+                synchronized (lock) {
+                    if (event.car.isIdle()) {
+                        activeCars.remove(event.car); // 유휴 차량은 다음 호출까지 사건을 만들지 않음
+                    } else {
+                        schedule(now + tickNanos, SimulationEvent.Type.DOOR_OPEN, event.car);
+                    }
+                }
+            }
+            case COMMAND -> {
+                event.car.drainRequests();
+                synchronized (lock) {
+                    if (event.car.isIdle()) {
+                        activeCars.remove(event.car); // 설정 변경, 상태 복사처럼 운행할 일이 생기지 않은 명령
+                    } else {
+                        schedule(now, SimulationEvent.Type.DOOR_OPEN, event.car);
+                    }
+                }
+            }
+        }
+    }
+
+    // 다른 스레드가 차량에 명령을 넣음 (schedulePassenger를 거치지 않은 그룹/컨트롤러 호출 포함)
+    // 유휴 차량은 사건이 없어 명령을 꺼낼 기회가 없으므로 현재 시각에 깨움 (운행 중인 차량은 다음 사건에서 반영)
+    private void onCommandQueued(ElevatorService car) {
+        synchronized (lock) {
+            if (activeCars.add(car)) {
+                schedule(clock.nanoTime(), SimulationEvent.Type.COMMAND, car);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void activate(ElevatorService car, long now) {
+        synchronized (lock) {
+            if (activeCars.add(car)) {
+                schedule(now, SimulationEvent.Type.DOOR_OPEN, car);
+            }
+        }
+    }
+
+    // ========== 조회 ==========
+
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    public int getPendingEventCount() {
+        synchronized (lock) {
+            return events.size();
+        }
+    }
+
+    public ElevatorGroupService getGroupService() {
+        return groupService;
+    }
+}
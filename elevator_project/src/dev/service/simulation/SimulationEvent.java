@@ -0,0 +1,48 @@
+package dev.service.simulation;
+
+import dev.service.ElevatorService;
+
+/**
+ * 사건 큐에 들어가는 시각이 찍힌 사건
+ * 같은 시각의 사건은 예약된 순서(sequence)대로 처리됩니다.
+ */
+final class SimulationEvent implements Comparable<SimulationEvent> {
+
+    enum Type {
+        PASSENGER_ARRIVAL,  // 승객이 승강장에 도착해 호출
+        DOOR_OPEN,          // 현재 층에서 문이 열려 하차/탑승 처리
+        DEPART,             // SCAN에 따라 다음 층으로 출발
+        COMMAND             // 다른 스레드가 보낸 명령(요청 등)을 유휴 차량에 반영
+    }
+
+    final long timeNanos;
+    final long sequence;
+    final Type type;
+    final ElevatorService car;
+    final int startFloor;
+    final int destinationFloor;
+
+    private SimulationEvent(long timeNanos, long sequence, Type type, ElevatorService car,
+                            int startFloor, int destinationFloor) {
+        this.timeNanos = timeNanos;
+        this.sequence = sequence;
+        this.type = type;
+        this.car = car;
+        this.startFloor = startFloor;
+        this.destinationFloor = destinationFloor;
+    }
+
+    static SimulationEvent arrival(long timeNanos, long sequence, int startFloor, int destinationFloor) {
+        return new SimulationEvent(timeNanos, sequence, Type.PASSENGER_ARRIVAL, null, startFloor, destinationFloor);
+    }
+
+    static SimulationEvent carEvent(long timeNanos, long sequence, Type type, ElevatorService car) {
+        return new SimulationEvent(timeNanos, sequence, type, car, 0, 0);
+    }
+
+    @Override
+    public int compareTo(SimulationEvent other) {
+        int byTime = Long.compare(timeNanos, other.timeNanos);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.service.simulation;
+
+import dev.model.clock.SimulationClock;
+
+/**
+ * 이산 사건 시뮬레이션의 가상 시계
+ * 실제 시간과 무관하게 처리 중인 사건의 시각으로만 전진합니다. (나노초 단위)
+ */
+public class VirtualClock implements SimulationClock {
+    private volatile long nowNanos;
+
+    @Override
+    public long nanoTime() {
+        return nowNanos;
+    }
+
+    /**
+     * 지정한 시각으로 시계를 전진시킵니다. 과거로는 되돌릴 수 없습니다.
+     */
+    void advanceTo(long timeNanos) {
+        if (timeNanos < nowNanos) {
+            throw new IllegalStateException("가상 시계를 되돌릴 수 없습니다: " + timeNanos + " < " + nowNanos);
+        }
+        nowNanos = timeNanos;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.service.sink;
+
+import dev.model.Passenger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 승객을 보관하지 않고 개수만 세는 싱크
+ * 통계는 PassengerService의 TripStatistics(히스토그램)에 따로 누적되므로 장시간 부하 실행에 사용합니다.
+ */
+public class AggregateOnlyTripSink implements CompletedTripSink {
+    private final LongAdder accepted = new LongAdder();
+
+    @Override
+    public void accept(Passenger passenger) {
+        accepted.increment();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+}
@@ -0,0 +1,117 @@
+package dev.service.sink;
+
+import dev.model.stats.TripStatistics;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BinaryTripSink가 만든 이동 기록 파일을 메모리 매핑해 읽는 읽기 전용 뷰
+ * 레코드 번호로 바로 접근하며 객체를 만들지 않으므로 수억 건도 페이지 캐시 속도로 훑을 수 있습니다.
+ * 한 매핑은 2GB를 넘을 수 없어 파일을 레코드 경계에 맞춘 구간으로 나눠 매핑합니다.
+ * 열 때의 파일 크기까지만 보이며, 여러 스레드에서 동시에 읽어도 됩니다.
+ */
+public class BinaryTripLog implements Closeable {
+    // 한 매핑 구간의 레코드 수 (약 1GB)
+    private static final int RECORDS_PER_SEGMENT = (1 << 30) / BinaryTripSink.RECORD_BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long count;
+
+    public BinaryTripLog(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            checkHeader(channel, file);
+            count = (channel.size() - BinaryTripSink.HEADER_BYTES) / BinaryTripSink.RECORD_BYTES;
+            int segmentCount = (int) ((count + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+            segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = (long) i * RECORDS_PER_SEGMENT;
+                long records = Math.min(RECORDS_PER_SEGMENT, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    BinaryTripSink.HEADER_BYTES + first * BinaryTripSink.RECORD_BYTES,
+                    records * BinaryTripSink.RECORD_BYTES);
+                segments[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 매직, 버전, 레코드 크기를 확인 (채널 위치는 바꾸지 않음)
+    static void checkHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BinaryTripSink.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long position = 0;
+        while (header.hasRemaining()) {
+            int read = channel.read(header, position);
+            if (read < 0) throw new IOException("이동 기록 파일이 아닙니다: " + file);
+            position += read;
+        }
+        header.flip();
+        if (header.getInt() != BinaryTripSink.MAGIC) {
+            throw new IOException("이동 기록 파일이 아닙니다: " + file);
+        }
+        short version = header.getShort();
+        short recordBytes = header.getShort();
+        if (version != BinaryTripSink.VERSION || recordBytes != BinaryTripSink.RECORD_BYTES) {
+            throw new IOException("지원하지 않는 이동 기록 형식입니다: 버전 " + version + ", 레코드 " + recordBytes + "바이트");
+        }
+    }
+
+    /**
+     * 레코드 수 (완료 승객 수)
+     */
+    public long size() {
+        return count;
+    }
+
+    public int getId(long index) { return segment(index).getInt(offset(index)); }
+    public int getStartFloor(long index) { return segment(index).getShort(offset(index) + 4); }
+    public int getDestinationFloor(long index) { return segment(index).getShort(offset(index) + 6); }
+    // 차량 번호 (0부터), 차량 없이 기록되었으면 -1
+    public int getCar(long index) { return segment(index).getShort(offset(index) + 8); }
+    public long getRequestNanos(long index) { return segment(index).getLong(offset(index) + 12); }
+    public long getBoardingNanos(long index) { return segment(index).getLong(offset(index) + 20); }
+    public long getArrivalNanos(long index) { return segment(index).getLong(offset(index) + 28); }
+
+    /**
+     * 전체 레코드의 대기/탑승/총 소요 시간 분포를 계산합니다. (car가 음수면 모든 차량)
+     */
+    public TripStatistics statistics(int car) {
+        TripStatistics statistics = new TripStatistics();
+        for (MappedByteBuffer segment : segments) {
+            int limit = segment.limit();
+            for (int at = 0; at < limit; at += BinaryTripSink.RECORD_BYTES) {
+                if (car >= 0 && segment.getShort(at + 8) != car) continue;
+                long request = segment.getLong(at + 12);
+                long boarding = segment.getLong(at + 20);
+                long arrival = segment.getLong(at + 28);
+                statistics.record(boarding - request, arrival - boarding, arrival - request);
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close(); // 매핑은 GC가 해제
+    }
+
+    private MappedByteBuffer segment(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("레코드 번호 범위(0~" + (count - 1) + ")를 벗어났습니다: " + index);
+        }
+        return segments[(int) (index / RECORDS_PER_SEGMENT)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index % RECORDS_PER_SEGMENT) * BinaryTripSink.RECORD_BYTES;
+    }
+}
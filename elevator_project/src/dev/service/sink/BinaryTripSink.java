@@ -0,0 +1,117 @@
+package dev.service.sink;
+
+import dev.model.Passenger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 완료 승객을 고정 길이 이진 레코드로 파일 끝에 덧붙이는 싱크
+ * 직접 버퍼에 레코드를 모아 FileChannel로 한 번에 쓰며, BinaryTripLog로 메모리 매핑해 읽습니다.
+ *
+ * 형식 (리틀 엔디언):
+ * <pre>
+ * 머리말 16바이트: 매직 "ELTP"(int), 버전(short), 레코드 크기(short), 예약(8바이트)
+ * 레코드 36바이트: id(int), 출발층(short), 도착층(short), 차량(short), 예약(short),
+ *                  요청/탑승/도착 시각(long x 3, 시뮬레이션 시계 나노초)
+ * </pre>
+ * 이미 있는 파일이면 머리말을 확인하고 끝에 이어 씁니다. 메모리에는 retention명까지만 보관합니다. (0이면 보관하지 않음)
+ */
+public class BinaryTripSink implements CompletedTripSink {
+    static final int MAGIC = 0x454C5450; // "ELTP"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 36;
+    private static final int BUFFER_RECORDS = 2048; // 약 72KB마다 한 번 write
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final RollingWindowTripSink window;
+
+    public BinaryTripSink(Path file, int retention) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_BYTES).putLong(0L).flip();
+                writeFully(header);
+            } else {
+                BinaryTripLog.checkHeader(channel, file);
+                // 기록 도중 끊긴 마지막 레코드는 잘라내고 이어 씀
+                long complete = HEADER_BYTES + (size - HEADER_BYTES) / RECORD_BYTES * RECORD_BYTES;
+                channel.truncate(complete);
+                channel.position(complete);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 파일 생성 실패: " + e.getMessage());
+        }
+        this.window = (retention > 0) ? new RollingWindowTripSink(retention) : null;
+    }
+
+    @Override
+    public void accept(Passenger passenger) {
+        accept(passenger, -1);
+    }
+
+    @Override
+    public synchronized void accept(Passenger passenger, int car) {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.putInt(passenger.getId())
+            .putShort((short) passenger.getStartFloor())
+            .putShort((short) passenger.getDestinationFloor())
+            .putShort((short) car)
+            .putShort((short) 0)
+            .putLong(passenger.getRequestNanos())
+            .putLong(passenger.getBoardingNanos())
+            .putLong(passenger.getArrivalNanos());
+        if (window != null) {
+            window.accept(passenger);
+        }
+    }
+
+    @Override
+    public List<Passenger> recent() {
+        return (window != null) ? window.recent() : List.of();
+    }
+
+    @Override
+    public synchronized void flush() {
+        drain();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            drain();
+            channel.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 파일 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 실패: " + e.getMessage());
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
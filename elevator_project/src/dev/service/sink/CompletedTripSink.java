@@ -0,0 +1,39 @@
+package dev.service.sink;
+
+import dev.model.Passenger;
+import java.util.List;
+
+/**
+ * 하차한 승객(완료된 이동)을 받는 출력 대상
+ * PassengerService는 승객이 내릴 때마다 accept를 호출하고 목록을 직접 들고 있지 않으므로,
+ * 실행 시간과 관계없이 메모리 사용량은 싱크의 보관 정책이 정합니다.
+ * 여러 차량이 한 싱크를 공유할 수 있으므로 구현은 스레드 안전해야 합니다.
+ */
+public interface CompletedTripSink {
+
+    /**
+     * 하차 처리된 승객 한 명을 받습니다. (도착 시각 기록 후 호출)
+     */
+    void accept(Passenger passenger);
+
+    /**
+     * 태워 준 차량 번호(그룹 내 순서, 0부터)와 함께 받습니다. 차량을 기록하지 않는 싱크는 accept(passenger)와 같습니다.
+     */
+    default void accept(Passenger passenger, int car) {
+        accept(passenger);
+    }
+
+    /**
+     * 메모리에 보관 중인 최근 완료 승객 (오래된 순). 보관하지 않는 싱크는 빈 목록을 반환합니다.
+     */
+    default List<Passenger> recent() {
+        return List.of();
+    }
+
+    // 버퍼에 남은 기록을 내보냄
+    default void flush() {
+    }
+
+    default void close() {
+    }
+}
@@ -0,0 +1,82 @@
+package dev.service.sink;
+
+import dev.model.Passenger;
+import dev.model.clock.SimulationClock;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 완료 승객을 CSV 파일 끝에 한 줄씩 덧붙이는 싱크
+ * 형식: id,startFloor,destinationFloor,requestSec,boardingSec,arrivalSec (시뮬레이션 시계 기준 초)
+ * 메모리에는 retention명까지만 보관합니다. (0이면 보관하지 않음)
+ */
+public class FileTripSink implements CompletedTripSink {
+    public static final String HEADER = "id,startFloor,destinationFloor,requestSec,boardingSec,arrivalSec";
+
+    private final BufferedWriter writer;
+    private final RollingWindowTripSink window;
+    private final StringBuilder line = new StringBuilder(64);
+
+    public FileTripSink(Path file, int retention) {
+        try {
+            boolean empty = !Files.exists(file) || Files.size(file) == 0;
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (empty) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 파일 생성 실패: " + e.getMessage());
+        }
+        this.window = (retention > 0) ? new RollingWindowTripSink(retention) : null;
+    }
+
+    @Override
+    public synchronized void accept(Passenger passenger) {
+        line.setLength(0);
+        line.append(passenger.getId()).append(',')
+            .append(passenger.getStartFloor()).append(',')
+            .append(passenger.getDestinationFloor()).append(',');
+        SimulationClock.appendSeconds(line, passenger.getRequestNanos()).append(',');
+        SimulationClock.appendSeconds(line, passenger.getBoardingNanos()).append(',');
+        SimulationClock.appendSeconds(line, passenger.getArrivalNanos());
+        try {
+            writer.append(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 실패: " + e.getMessage());
+        }
+        if (window != null) {
+            window.accept(passenger);
+        }
+    }
+
+    @Override
+    public List<Passenger> recent() {
+        return (window != null) ? window.recent() : List.of();
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 flush 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new RuntimeException("이동 기록 파일 닫기 실패: " + e.getMessage());
+        }
+    }
+}
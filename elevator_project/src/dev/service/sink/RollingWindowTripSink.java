@@ -0,0 +1,49 @@
+package dev.service.sink;
+
+import dev.model.Passenger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 완료 승객 N명만 원형 버퍼에 보관하는 싱크 (기본 싱크)
+ * 가득 차면 가장 오래된 승객을 덮어쓰므로 메모리는 보관 수에 비례해 일정합니다.
+ */
+public class RollingWindowTripSink implements CompletedTripSink {
+    public static final int DEFAULT_RETENTION = 1000;
+
+    private final Passenger[] window;
+    private int next;
+    private int size;
+
+    public RollingWindowTripSink() {
+        this(DEFAULT_RETENTION);
+    }
+
+    public RollingWindowTripSink(int retention) {
+        if (retention < 1) {
+            throw new IllegalArgumentException("보관 수는 1 이상이어야 합니다: " + retention);
+        }
+        this.window = new Passenger[retention];
+    }
+
+    @Override
+    public synchronized void accept(Passenger passenger) {
+        window[next] = passenger;
+        next = (next + 1) % window.length;
+        if (size < window.length) size++;
+    }
+
+    @Override
+    public synchronized List<Passenger> recent() {
+        List<Passenger> result = new ArrayList<>(size);
+        int start = (next - size + window.length) % window.length;
+        for (int i = 0; i < size; i++) {
+            result.add(window[(start + i) % window.length]);
+        }
+        return result;
+    }
+
+    public int getRetention() {
+        return window.length;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.service.trace;
+
+import dev.model.Direction;
+import dev.model.clock.SimulationClock;
+import java.util.Arrays;
+
+/**
+ * 추적 파일에서 읽은 기록 하나
+ * 종류에 따라 쓰는 필드만 채워지고 나머지는 0/null입니다.
+ * <ul>
+ * <li>START, STOP: timeNanos</li>
+ * <li>REQUEST: car, timeNanos(반영 시각), passengerId, requestNanos, startFloor, destinationFloor</li>
+ * <li>MONITOR: car, timeNanos, exited, boardedIds</li>
+ * <li>MOVE: car, timeNanos, floor, direction</li>
+ * </ul>
+ */
+public record TraceEvent(Type type, int car, long timeNanos,
+                         int passengerId, long requestNanos, int startFloor, int destinationFloor,
+                         int exited, int[] boardedIds, int floor, Direction direction) {
+
+    public enum Type { START, STOP, REQUEST, MONITOR, MOVE }
+
+    static TraceEvent lifecycle(Type type, long timeNanos) {
+        return new TraceEvent(type, 0, timeNanos, 0, 0, 0, 0, 0, null, 0, null);
+    }
+
+    static TraceEvent request(int car, long timeNanos, int passengerId, long requestNanos,
+                              int startFloor, int destinationFloor) {
+        return new TraceEvent(Type.REQUEST, car, timeNanos, passengerId, requestNanos,
+            startFloor, destinationFloor, 0, null, 0, null);
+    }
+
+    public static TraceEvent monitor(int car, long timeNanos, int exited, int[] boardedIds) {
+        return new TraceEvent(Type.MONITOR, car, timeNanos, 0, 0, 0, 0, exited, boardedIds, 0, null);
+    }
+
+    public static TraceEvent move(int car, long timeNanos, int floor, Direction direction) {
+        return new TraceEvent(Type.MOVE, car, timeNanos, 0, 0, 0, 0, 0, null, floor, direction);
+    }
+
+    /**
+     * 같은 차량의 같은 결정인지 비교합니다. (시각은 비교하지 않음)
+     */
+    public boolean sameDecision(TraceEvent other) {
+        if (type != other.type || car != other.car) return false;
+        return switch (type) {
+            case MONITOR -> exited == other.exited && Arrays.equals(boardedIds, other.boardedIds);
+            case MOVE -> floor == other.floor && direction == other.direction;
+            default -> true;
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(48).append(type).append(" 차량").append(car + 1).append(" @");
+        SimulationClock.appendSeconds(sb, timeNanos).append('s');
+        switch (type) {
+            case REQUEST -> sb.append(" 승객").append(passengerId).append(' ')
+                .append(startFloor).append('→').append(destinationFloor);
+            case MONITOR -> sb.append(" 하차 ").append(exited).append("명, 탑승 ").append(Arrays.toString(boardedIds));
+            case MOVE -> sb.append(' ').append(floor).append("층 ").append(direction);
+            default -> { }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.service.trace;
+
+import dev.service.ElevatorGroupService;
+
+/**
+ * 추적 파일 머리말: 같은 구성으로 다시 실행하기 위한 건물/정책 정보
+ * @param tickNanos 한 층 이동 시간 (재시뮬레이션용)
+ */
+public record TraceHeader(int minFloor, int maxFloor, int capacity, int carCount,
+                          String algorithm, String dispatch, long tickNanos) {
+
+    /**
+     * 그룹의 현재 구성으로 머리말을 만듭니다.
+     */
+    public static TraceHeader of(ElevatorGroupService group, long tickNanos) {
+        return new TraceHeader(group.getMinFloor(), group.getMaxFloor(),
+            group.getElevators().get(0).getCapacity(), group.getCarCount(),
+            group.getElevators().get(0).getSchedulingStrategy().getName(),
+            group.getDispatchPolicy().getName(), tickNanos);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.service.trace;
+
+import dev.model.Direction;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * TraceWriter가 만든 추적 파일을 기록 순서대로 읽습니다.
+ */
+public class TraceReader implements Closeable {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final TraceEvent.Type[] TYPES = TraceEvent.Type.values();
+
+    private final DataInputStream in;
+    private final TraceHeader header;
+    private long lastNanos;
+
+    public TraceReader(Path file) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+        try {
+            if (in.readInt() != TraceWriter.MAGIC) {
+                throw new IOException("추적 파일이 아닙니다: " + file);
+            }
+            int version = in.readUnsignedShort();
+            if (version != TraceWriter.VERSION) {
+                throw new IOException("지원하지 않는 추적 파일 버전입니다: " + version);
+            }
+            int minFloor = in.readInt();
+            int maxFloor = in.readInt();
+            int capacity = in.readInt();
+            int carCount = in.readInt();
+            long tickNanos = in.readLong();
+            String algorithm = in.readUTF();
+            String dispatch = in.readUTF();
+            header = new TraceHeader(minFloor, maxFloor, capacity, carCount, algorithm, dispatch, tickNanos);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    public TraceHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * 다음 기록을 읽습니다.
+     * @return 파일 끝이면 null
+     */
+    public TraceEvent next() throws IOException {
+        int tag = in.read();
+        if (tag < 0) return null;
+        if (tag >= TYPES.length) {
+            throw new IOException("알 수 없는 추적 기록 종류: " + tag);
+        }
+        TraceEvent.Type type = TYPES[tag];
+        try {
+            int car = (type == TraceEvent.Type.START || type == TraceEvent.Type.STOP) ? 0 : (int) readVarLong();
+            long timeNanos = lastNanos + unzigzag(readVarLong());
+            lastNanos = timeNanos;
+            return switch (type) {
+                case START, STOP -> TraceEvent.lifecycle(type, timeNanos);
+                case REQUEST -> {
+                    int id = (int) readVarLong();
+                    long requestNanos = timeNanos - unzigzag(readVarLong());
+                    int start = (int) unzigzag(readVarLong());
+                    int destination = (int) unzigzag(readVarLong());
+                    yield TraceEvent.request(car, timeNanos, id, requestNanos, start, destination);
+                }
+                case MONITOR -> {
+                    int exited = (int) readVarLong();
+                    int[] boarded = new int[(int) readVarLong()];
+                    for (int i = 0; i < boarded.length; i++) {
+                        boarded[i] = (int) readVarLong();
+                    }
+                    yield TraceEvent.monitor(car, timeNanos, exited, boarded);
+                }
+                case MOVE -> {
+                    int floor = (int) unzigzag(readVarLong());
+                    yield TraceEvent.move(car, timeNanos, floor, DIRECTIONS[in.readUnsignedByte()]);
+                }
+            };
+        } catch (EOFException e) {
+            throw new IOException("추적 파일이 기록 중간에 끝났습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("잘못된 가변 길이 정수");
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
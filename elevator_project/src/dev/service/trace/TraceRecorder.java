@@ -0,0 +1,43 @@
+package dev.service.trace;
+
+import dev.model.Direction;
+import dev.model.Passenger;
+import java.util.List;
+
+/**
+ * 시뮬레이션 입력과 차량의 결정을 받는 기록 대상
+ * 차량 이벤트(요청 반영, 하차/탑승, 이동)는 그 차량의 소유 스레드에서 상태를 바꾼 직후 호출되므로,
+ * 차량별 호출 순서만 지키면 스레드 타이밍과 관계없이 같은 결과를 다시 만들 수 있습니다.
+ * 여러 차량이 한 기록 대상을 공유하므로 구현은 스레드 안전해야 합니다.
+ */
+public interface TraceRecorder {
+
+    // 스레드 모드 시작/중지 (이산 사건 실행에서는 호출되지 않음)
+    default void onStart(long timeNanos) {
+    }
+
+    default void onStop(long timeNanos) {
+    }
+
+    /**
+     * 배정된 승객 요청이 차량에 반영됨 (입력 + 배차 결정)
+     */
+    void onRequest(int car, long timeNanos, Passenger passenger);
+
+    /**
+     * 현재 층의 하차/탑승 처리 (탑승 승객 목록이 결정)
+     */
+    void onMonitor(int car, long timeNanos, int exited, List<Passenger> boarded);
+
+    /**
+     * 이동 단계 결과 (다음 층/방향 결정)
+     */
+    void onMove(int car, long timeNanos, int floor, Direction direction);
+
+    // 버퍼에 남은 기록을 내보냄
+    default void flush() {
+    }
+
+    default void close() {
+    }
+}
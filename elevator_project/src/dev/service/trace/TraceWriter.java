@@ -0,0 +1,147 @@
+package dev.service.trace;
+
+import dev.model.Direction;
+import dev.model.Passenger;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 입력과 결정을 압축 이진 추적 파일로 기록하는 기록 대상
+ *
+ * 형식: 머리말(매직 "ELTR", 버전, TraceHeader) 뒤에 기록이 이어집니다.
+ * 기록은 종류 1바이트 + 가변 길이 정수(LEB128)이며, 시각은 직전 기록과의 차이(zigzag)로 저장해
+ * 한 단계 기록이 보통 4~6바이트입니다. 여러 차량 스레드가 공유하므로 기록 메서드는 동기화됩니다.
+ */
+public class TraceWriter implements TraceRecorder {
+    static final int MAGIC = 0x454C5452; // "ELTR"
+    static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private long lastNanos; // 시각 차이 기준
+    private long records;
+
+    public TraceWriter(Path file, TraceHeader header) {
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(header.minFloor());
+            out.writeInt(header.maxFloor());
+            out.writeInt(header.capacity());
+            out.writeInt(header.carCount());
+            out.writeLong(header.tickNanos());
+            out.writeUTF(header.algorithm());
+            out.writeUTF(header.dispatch());
+        } catch (IOException e) {
+            throw new RuntimeException("추적 파일 생성 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void onStart(long timeNanos) {
+        try {
+            begin(TraceEvent.Type.START, 0, timeNanos);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public synchronized void onStop(long timeNanos) {
+        try {
+            begin(TraceEvent.Type.STOP, 0, timeNanos);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public synchronized void onRequest(int car, long timeNanos, Passenger passenger) {
+        try {
+            begin(TraceEvent.Type.REQUEST, car, timeNanos);
+            writeVarLong(passenger.getId());
+            writeVarLong(zigzag(timeNanos - passenger.getRequestNanos())); // 요청 → 반영 지연
+            writeVarLong(zigzag(passenger.getStartFloor()));
+            writeVarLong(zigzag(passenger.getDestinationFloor()));
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public synchronized void onMonitor(int car, long timeNanos, int exited, List<Passenger> boarded) {
+        try {
+            begin(TraceEvent.Type.MONITOR, car, timeNanos);
+            writeVarLong(exited);
+            writeVarLong(boarded.size());
+            for (Passenger passenger : boarded) {
+                writeVarLong(passenger.getId());
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public synchronized void onMove(int car, long timeNanos, int floor, Direction direction) {
+        try {
+            begin(TraceEvent.Type.MOVE, car, timeNanos);
+            writeVarLong(zigzag(floor));
+            out.writeByte(direction.ordinal());
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    public synchronized long getRecordCount() {
+        return records;
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("추적 기록 flush 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new RuntimeException("추적 파일 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    private void begin(TraceEvent.Type type, int car, long timeNanos) throws IOException {
+        out.writeByte(type.ordinal());
+        if (type != TraceEvent.Type.START && type != TraceEvent.Type.STOP) {
+            writeVarLong(car);
+        }
+        writeVarLong(zigzag(timeNanos - lastNanos)); // 스레드 모드에서는 차량끼리 시각이 뒤섞일 수 있음
+        lastNanos = timeNanos;
+        records++;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static RuntimeException failure(IOException e) {
+        return new RuntimeException("추적 기록 실패: " + e.getMessage());
+    }
+}
@@ -7,4 +7,9 @@ public class ConsoleLogStrategy implements LogStrategy {
     public void log(String level, String message) {
         System.out.println("[" + level + "] " + message);
     }
+
+    @Override
+    public void log(String timestamp, String level, String message) {
+        System.out.println("[" + timestamp + "] [" + level + "] " + message);
+    }
 }
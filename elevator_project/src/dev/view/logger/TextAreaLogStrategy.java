@@ -0,0 +1,49 @@
+package dev.view.logger;
+
+import dev.model.logger.strategy.LogStrategy;
+
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+
+/**
+ * Swing 로그 창에 기록하는 전략
+ * 로그를 모아 두었다가 flush 시 EDT에서 한 번에 덧붙입니다.
+ */
+public class TextAreaLogStrategy implements LogStrategy {
+    private final JTextArea logArea;
+    private final StringBuilder pending = new StringBuilder();
+
+    public TextAreaLogStrategy(JTextArea logArea) {
+        this.logArea = logArea;
+    }
+
+    @Override
+    public void log(String level, String message) {
+        synchronized (pending) {
+            pending.append('[').append(level).append("] ").append(message).append('\n');
+        }
+    }
+
+    @Override
+    public void log(String timestamp, String level, String message) {
+        synchronized (pending) {
+            pending.append('[').append(timestamp).append("] [").append(level).append("] ")
+                .append(message).append('\n');
+        }
+    }
+
+    @Override
+    public void flush() {
+        String text;
+        synchronized (pending) {
+            if (pending.length() == 0) return;
+            text = pending.toString();
+            pending.setLength(0);
+        }
+        SwingUtilities.invokeLater(() -> {
+            logArea.append(text);
+            // 로그가 많아질 경우 자동으로 스크롤
+            logArea.setCaretPosition(logArea.getDocument().getLength());
+        });
+    }
+}
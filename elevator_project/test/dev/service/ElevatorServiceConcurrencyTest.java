@@ -0,0 +1,243 @@
+package dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.controller.logger.LoggerFactory;
+import dev.model.DefaultElevator;
+import dev.model.ElevatorSnapshot;
+import dev.model.logger.LogLevel;
+import dev.model.scheduling.LookStrategy;
+import dev.service.checkpoint.SimulationCheckpoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 소유 스레드 모델(명령 큐 + park/unpark)에 시작/중지와 승객 요청을 동시에 몰아넣어
+ * 요청이 사라지거나 멈춰 있는 제어 루프가 깨어나지 못하는 경우가 없는지 확인합니다.
+ */
+class ElevatorServiceConcurrencyTest {
+    private static final int MIN_FLOOR = 1;
+    private static final int MAX_FLOOR = 10;
+
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void requestRacingWithStartWakesIdleLoop() throws Exception {
+        for (int round = 0; round < 500; round++) {
+            ElevatorService service = newService();
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Future<?> starter = callers.submit(() -> {
+                barrier.await();
+                service.startSimulation();
+                return null;
+            });
+            long delayNanos = (round % 50) * 2_000L; // 시작과 요청 사이 간격을 라운드마다 바꿔 여러 교차 지점을 지나가게 함
+            Future<?> requester = callers.submit(() -> {
+                barrier.await();
+                long until = System.nanoTime() + delayNanos;
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+                service.addPassengerRequest(5, 8); // 차량은 1층에 있으므로 반영되면 대기 승객으로 보임
+                return null;
+            });
+            starter.get(5, TimeUnit.SECONDS);
+            requester.get(5, TimeUnit.SECONDS);
+
+            // 할 일이 없어 멈춘 루프가 깨어나 요청을 반영해야 함 (중지할 때 비우는 경로로 대신하지 않음)
+            assertTrue(awaitApplied(service, 1), "round " + round + ": 요청이 반영되지 않았습니다.");
+            service.stopSimulation();
+        }
+    }
+
+    @Test
+    void concurrentStartStopAndRequestsAreAllApplied() throws Exception {
+        ElevatorService service = newService();
+        int requesters = 4;
+        int requestsEach = 200;
+        CyclicBarrier barrier = new CyclicBarrier(requesters + 2);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < requesters; t++) {
+            tasks.add(callers.submit(() -> {
+                barrier.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < requestsEach; i++) {
+                    int start = random.nextInt(MIN_FLOOR, MAX_FLOOR + 1);
+                    int destination = (start == MAX_FLOOR) ? MIN_FLOOR : start + 1;
+                    service.addPassengerRequest(start, destination);
+                }
+                return null;
+            }));
+        }
+        for (int t = 0; t < 2; t++) {
+            tasks.add(callers.submit(() -> {
+                barrier.await();
+                for (int i = 0; i < 100; i++) {
+                    service.startSimulation();
+                    Thread.yield();
+                    service.stopSimulation();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+        service.stopSimulation();
+
+        assertFalse(service.isRunning());
+        int total = requesters * requestsEach;
+        assertEquals(total, service.getWaitingPassengers().size()
+            + service.getElevator().getCurrentPassengerCount()
+            + (int) service.getTripStatistics().getCompletedCount());
+        assertEquals(service.getWaitingPassengers().size(), service.getSnapshot().getWaitingCount());
+    }
+
+    @Test
+    void failingStepStopsLoopInsteadOfLeavingItRunning() throws Exception {
+        ElevatorService service = newService();
+        service.setSchedulingStrategy(new LookStrategy() {
+            @Override
+            public int nextTarget(DefaultElevator elevator) {
+                throw new IllegalStateException("테스트용 오류");
+            }
+        });
+        CountDownLatch stopped = new CountDownLatch(1);
+        service.setThreadStatusListener((phase, status) -> {
+            if (status.equals("종료")) stopped.countDown();
+        });
+        service.addPassengerRequest(5, 8);
+        service.startSimulation();
+
+        assertTrue(stopped.await(2, TimeUnit.SECONDS), "오류 후 종료 상태가 알려지지 않았습니다.");
+        assertFalse(service.isRunning());
+        service.startSimulation(); // 같은 오류로 다시 멈추더라도 시작 자체는 가능해야 함
+        service.stopSimulation();
+    }
+
+    @Test
+    void startFailsWhilePreviousLoopHasNotExited() throws Exception {
+        ElevatorService service = newService();
+        CountDownLatch release = new CountDownLatch(1);
+        service.setThreadStatusListener((phase, status) -> {
+            // 제어 스레드가 종료를 알릴 때 인터럽트를 무시하고 붙잡아 둠
+            if (status.equals("종료") && Thread.currentThread().getName().endsWith("-제어")) {
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+            }
+        });
+        service.startSimulation();
+        service.stopSimulation(); // 끝나지 않은 루프는 경고만 남김
+
+        assertThrows(IllegalStateException.class, service::startSimulation);
+        assertFalse(service.isRunning());
+
+        release.countDown();
+        service.startSimulation(); // 이전 루프가 끝나면 다시 시작할 수 있음
+        assertTrue(service.isRunning());
+        service.stopSimulation();
+    }
+
+    @Test
+    void idleLoopStopsOnlyWhenOptedIn() throws Exception {
+        ElevatorService service = newService();
+        service.addPassengerRequest(1, 2);
+        service.startSimulation();
+        assertTrue(awaitCompleted(service, 1));
+        assertTrue(service.isRunning(), "기본 설정에서는 할 일이 없어도 중지할 때까지 실행 상태여야 합니다.");
+        service.stopSimulation();
+
+        ElevatorService autoStop = newService();
+        autoStop.setStopWhenIdle(true);
+        autoStop.addPassengerRequest(1, 2);
+        autoStop.startSimulation();
+        assertTrue(awaitCompleted(autoStop, 1));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (autoStop.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(autoStop.isRunning(), "자동 종료를 켠 차량은 할 일이 없으면 스스로 멈춰야 합니다.");
+    }
+
+    @Test
+    void resetQueuedBeforeCaptureDoesNotDropIt() throws Exception {
+        ElevatorService service = newService();
+        service.bindOwnerThread(); // 이산 사건 엔진처럼 이 스레드가 차량을 소유
+        try {
+            // 다른 스레드의 초기화와 상태 복사는 명령 큐에 차례로 쌓임
+            CompletableFuture<SimulationCheckpoint.CarState> state = callers.submit(() -> {
+                service.addPassengerRequest(5, 8);
+                service.resetSimulation();
+                return service.captureState();
+            }).get(5, TimeUnit.SECONDS);
+            assertFalse(state.isDone());
+
+            service.drainRequests();
+            assertTrue(state.isDone());
+            assertEquals(0, state.get().waiting().size()); // 초기화 뒤의 상태
+        } finally {
+            service.unbindOwnerThread();
+        }
+    }
+
+    private static ElevatorService newService() {
+        LoggerFactory loggerFactory = new LoggerFactory();
+        loggerFactory.setStrategies(); // 출력 없음
+        loggerFactory.setLevel(LogLevel.ERROR);
+        return new ElevatorService(MIN_FLOOR, MAX_FLOOR, 8, loggerFactory);
+    }
+
+    // 승객이 목적지에 내릴 때까지 최대 10초 기다림
+    private static boolean awaitCompleted(ElevatorService service, int passengers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (service.getTripStatistics().getCompletedCount() >= passengers) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    // 게시된 스냅샷에 승객이 보일 때까지 최대 2초 기다림
+    private static boolean awaitApplied(ElevatorService service, int passengers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            ElevatorSnapshot snapshot = service.getSnapshot();
+            if (snapshot.getWaitingCount() + snapshot.getOnboardCount() >= passengers) {
+                return true;
+            }
+            Thread.sleep(1);
+        }
+        return false;
+    }
+}
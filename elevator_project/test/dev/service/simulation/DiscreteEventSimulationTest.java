@@ -0,0 +1,45 @@
+package dev.service.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.controller.logger.LoggerFactory;
+import dev.model.Passenger;
+import dev.model.logger.LogLevel;
+import dev.service.ElevatorGroupService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 실행 중인 엔진에 schedulePassenger를 거치지 않고 들어온 요청이 다음 예약 사건까지 묶여 있지 않은지 확인합니다.
+ */
+class DiscreteEventSimulationTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void directRequestWakesIdleCarWhileRunning() throws Exception {
+        LoggerFactory loggerFactory = new LoggerFactory();
+        loggerFactory.setStrategies(); // 출력 없음
+        loggerFactory.setLevel(LogLevel.ERROR);
+        ElevatorGroupService group = new ElevatorGroupService(1, 10, 8, 1, loggerFactory);
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(group);
+        simulation.setRealTimeFactor(100); // 가상 100초 = 실제 1초
+        simulation.schedulePassenger(0, 1, 3);
+        simulation.schedulePassenger(60 * SECOND, 1, 2); // 이 사건 전까지 차량은 할 일 없이 멈춰 있음
+
+        CompletableFuture<Long> run = CompletableFuture.supplyAsync(simulation::run);
+        while (group.getTripStatistics().getCompletedCount() < 1) {
+            Thread.sleep(5); // 첫 승객이 내려 차량이 유휴 상태가 될 때까지
+        }
+        group.addPassengerRequest(5, 7); // 다른 스레드(화면 등)에서 바로 넣은 요청
+        run.get(10, TimeUnit.SECONDS);
+
+        List<Passenger> completed = group.getCompletedPassengers();
+        assertEquals(3, completed.size());
+        Passenger direct = completed.stream().filter(p -> p.getStartFloor() == 5).findFirst().orElseThrow();
+        assertTrue(direct.getArrivalNanos() < 60 * SECOND,
+            "바로 넣은 요청이 다음 예약 사건(60초)까지 처리되지 않았습니다: " + direct.getArrivalNanos());
+    }
+}